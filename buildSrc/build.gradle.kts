@@ -32,6 +32,7 @@ dependencies {
     implementation("gradle.plugin.io.snyk.gradle.plugin:snyk:0.5.1")
     implementation("io.freefair.gradle:lombok-plugin:8.4")
     implementation("io.spring.gradle:dependency-management-plugin:1.1.4")
+    implementation("me.champeau.jmh:jmh-gradle-plugin:0.7.2")
     implementation("org.apache.commons:commons-compress:1.25.0")
     implementation("org.gradle:test-retry-gradle-plugin:1.5.8")
     implementation("org.openapitools:openapi-generator-gradle-plugin:7.1.0")
@@ -0,0 +1,184 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.common.domain.topic;
+
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.exception.TopicMessageCodecException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import lombok.experimental.UtilityClass;
+
+/**
+ * A compact binary encoding of a batch of topic messages used to stream them from the importer to the gRPC API through
+ * Redis. Each message is encoded as its fixed-width fields followed by its length-prefixed byte arrays, so it avoids
+ * the field names and type information of the generic serializer. Nullable fixed-width fields are tracked by a bit
+ * mask. The same encoding is sent in PostgreSQL notifications as base64 text, where a message too large for a
+ * notification is instead sent as a reference to its consensus timestamp.
+ */
+@UtilityClass
+public class TopicMessageCodec {
+
+    public static final int HEADER_SIZE = Byte.BYTES + Integer.BYTES;
+    public static final String NOTIFY_BATCH_PREFIX = "b:";
+    public static final String NOTIFY_REFERENCE_PREFIX = "r:";
+    public static final String STREAM_FIELD = "messages";
+    public static final String STREAM_KEY = "topic_message";
+
+    private static final byte VERSION = 1;
+    private static final int FIXED_SIZE = Byte.BYTES + 5 * Long.BYTES + 3 * Integer.BYTES;
+    private static final int MIN_SIZE = FIXED_SIZE + 3 * Integer.BYTES;
+    private static final int NULL = -1;
+
+    private static final byte CHUNK_NUM = 0x01;
+    private static final byte CHUNK_TOTAL = 0x02;
+    private static final byte PAYER_ACCOUNT_ID = 0x04;
+    private static final byte VALID_START_TIMESTAMP = 0x08;
+
+    public static byte[] encode(Collection<TopicMessage> topicMessages) {
+        int size = HEADER_SIZE;
+
+        for (var topicMessage : topicMessages) {
+            size += size(topicMessage);
+        }
+
+        var buffer = ByteBuffer.allocate(size);
+        buffer.put(VERSION);
+        buffer.putInt(topicMessages.size());
+
+        for (var topicMessage : topicMessages) {
+            var chunkNum = topicMessage.getChunkNum();
+            var chunkTotal = topicMessage.getChunkTotal();
+            var payerAccountId = topicMessage.getPayerAccountId();
+            var validStartTimestamp = topicMessage.getValidStartTimestamp();
+            byte flags = 0;
+            flags |= chunkNum != null ? CHUNK_NUM : 0;
+            flags |= chunkTotal != null ? CHUNK_TOTAL : 0;
+            flags |= payerAccountId != null ? PAYER_ACCOUNT_ID : 0;
+            flags |= validStartTimestamp != null ? VALID_START_TIMESTAMP : 0;
+
+            buffer.put(flags);
+            buffer.putLong(topicMessage.getConsensusTimestamp());
+            buffer.putLong(topicMessage.getTopicId().getId());
+            buffer.putLong(topicMessage.getSequenceNumber());
+            buffer.putLong(payerAccountId != null ? payerAccountId.getId() : 0L);
+            buffer.putLong(validStartTimestamp != null ? validStartTimestamp : 0L);
+            buffer.putInt(topicMessage.getRunningHashVersion());
+            buffer.putInt(chunkNum != null ? chunkNum : 0);
+            buffer.putInt(chunkTotal != null ? chunkTotal : 0);
+            put(buffer, topicMessage.getInitialTransactionId());
+            put(buffer, topicMessage.getMessage());
+            put(buffer, topicMessage.getRunningHash());
+        }
+
+        return buffer.array();
+    }
+
+    public static List<TopicMessage> decode(byte[] bytes) {
+        try {
+            var buffer = ByteBuffer.wrap(bytes);
+            byte version = buffer.get();
+
+            if (version != VERSION) {
+                throw new TopicMessageCodecException("Unsupported topic message encoding version " + version);
+            }
+
+            int count = buffer.getInt();
+
+            // Checked before allocating so a corrupt count can't exhaust memory
+            if (count < 0 || count > buffer.remaining() / MIN_SIZE) {
+                throw new TopicMessageCodecException("Invalid topic message count " + count);
+            }
+
+            var topicMessages = new ArrayList<TopicMessage>(count);
+
+            for (int i = 0; i < count; i++) {
+                byte flags = buffer.get();
+                long consensusTimestamp = buffer.getLong();
+                long topicId = buffer.getLong();
+                long sequenceNumber = buffer.getLong();
+                long payerAccountId = buffer.getLong();
+                long validStartTimestamp = buffer.getLong();
+                int runningHashVersion = buffer.getInt();
+                int chunkNum = buffer.getInt();
+                int chunkTotal = buffer.getInt();
+
+                topicMessages.add(TopicMessage.builder()
+                        .chunkNum((flags & CHUNK_NUM) != 0 ? chunkNum : null)
+                        .chunkTotal((flags & CHUNK_TOTAL) != 0 ? chunkTotal : null)
+                        .consensusTimestamp(consensusTimestamp)
+                        .initialTransactionId(get(buffer))
+                        .message(get(buffer))
+                        .payerAccountId((flags & PAYER_ACCOUNT_ID) != 0 ? EntityId.of(payerAccountId) : null)
+                        .runningHash(get(buffer))
+                        .runningHashVersion(runningHashVersion)
+                        .sequenceNumber(sequenceNumber)
+                        .topicId(EntityId.of(topicId))
+                        .validStartTimestamp((flags & VALID_START_TIMESTAMP) != 0 ? validStartTimestamp : null)
+                        .build());
+            }
+
+            return topicMessages;
+        } catch (BufferUnderflowException e) {
+            throw new TopicMessageCodecException("Truncated topic message encoding", e);
+        }
+    }
+
+    /**
+     * Calculates the number of bytes a topic message adds to an encoded batch.
+     *
+     * @param topicMessage the topic message
+     * @return the encoded size in bytes
+     */
+    public static int size(TopicMessage topicMessage) {
+        return FIXED_SIZE
+                + size(topicMessage.getInitialTransactionId())
+                + size(topicMessage.getMessage())
+                + size(topicMessage.getRunningHash());
+    }
+
+    private static int size(byte[] bytes) {
+        return Integer.BYTES + (bytes != null ? bytes.length : 0);
+    }
+
+    private static void put(ByteBuffer buffer, byte[] bytes) {
+        if (bytes == null) {
+            buffer.putInt(NULL);
+        } else {
+            buffer.putInt(bytes.length);
+            buffer.put(bytes);
+        }
+    }
+
+    private static byte[] get(ByteBuffer buffer) {
+        int length = buffer.getInt();
+
+        if (length == NULL) {
+            return null;
+        }
+
+        if (length < 0 || length > buffer.remaining()) {
+            throw new TopicMessageCodecException("Invalid topic message field length " + length);
+        }
+
+        var bytes = new byte[length];
+        buffer.get(bytes);
+        return bytes;
+    }
+}
@@ -72,7 +72,6 @@ public class RecordItem implements StreamItem {
     private final long consensusTimestamp;
     private final RecordItem parent;
     private final EntityId payerAccountId;
-    private final RecordItem previous;
     private final SignatureMap signatureMap;
     private final boolean successful;
     private final Transaction transaction;
@@ -208,6 +207,14 @@ public class RecordItem implements StreamItem {
 
     public static class RecordItemBuilder {
 
+        // Only used to resolve the parent so that an item does not keep every earlier item in the file reachable
+        private RecordItem previous;
+
+        public RecordItemBuilder previous(RecordItem previous) {
+            this.previous = previous;
+            return this;
+        }
+
         public RecordItem build() {
             parseTransaction();
             this.consensusTimestamp = DomainUtils.timestampInNanosMax(transactionRecord.getConsensusTimestamp());
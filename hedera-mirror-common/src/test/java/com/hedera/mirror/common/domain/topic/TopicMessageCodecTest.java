@@ -0,0 +1,131 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.common.domain.topic;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.exception.TopicMessageCodecException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TopicMessageCodecTest {
+
+    @Test
+    void roundTrip() {
+        var topicMessage1 = TopicMessage.builder()
+                .chunkNum(1)
+                .chunkTotal(2)
+                .consensusTimestamp(1594401417000000000L)
+                .initialTransactionId(new byte[] {7, 8})
+                .message(new byte[] {1, 2, 3})
+                .payerAccountId(EntityId.of("0.1.1000"))
+                .runningHash(new byte[] {4, 5, 6})
+                .runningHashVersion(3)
+                .sequenceNumber(1L)
+                .topicId(EntityId.of("0.0.1001"))
+                .validStartTimestamp(1594401416000000000L)
+                .build();
+        var topicMessage2 = TopicMessage.builder()
+                .consensusTimestamp(1594401418000000000L)
+                .message(new byte[0])
+                .runningHash(new byte[] {9})
+                .runningHashVersion(3)
+                .sequenceNumber(2L)
+                .topicId(EntityId.of("0.0.1001"))
+                .build();
+
+        var bytes = TopicMessageCodec.encode(List.of(topicMessage1, topicMessage2));
+
+        assertThat(TopicMessageCodec.decode(bytes)).containsExactly(topicMessage1, topicMessage2);
+        assertThat(bytes)
+                .hasSize(TopicMessageCodec.HEADER_SIZE
+                        + TopicMessageCodec.size(topicMessage1)
+                        + TopicMessageCodec.size(topicMessage2));
+    }
+
+    @Test
+    void empty() {
+        assertThat(TopicMessageCodec.decode(TopicMessageCodec.encode(List.of()))).isEmpty();
+    }
+
+    @Test
+    void truncated() {
+        var topicMessage = TopicMessage.builder()
+                .consensusTimestamp(1L)
+                .message(new byte[] {1, 2, 3})
+                .runningHash(new byte[] {4})
+                .sequenceNumber(1L)
+                .topicId(EntityId.of("0.0.1001"))
+                .build();
+        var bytes = TopicMessageCodec.encode(List.of(topicMessage));
+
+        assertThatThrownBy(() -> TopicMessageCodec.decode(Arrays.copyOf(bytes, bytes.length - 1)))
+                .isInstanceOf(TopicMessageCodecException.class);
+    }
+
+    @Test
+    void invalidCount() {
+        var bytes = TopicMessageCodec.encode(List.of());
+        ByteBuffer.wrap(bytes).put(1, (byte) 0xFF);
+
+        assertThatThrownBy(() -> TopicMessageCodec.decode(bytes))
+                .isInstanceOf(TopicMessageCodecException.class)
+                .hasMessageContaining("count");
+        assertThatThrownBy(() -> TopicMessageCodec.decode(ByteBuffer.allocate(TopicMessageCodec.HEADER_SIZE)
+                        .put((byte) 1)
+                        .putInt(Integer.MAX_VALUE)
+                        .array()))
+                .isInstanceOf(TopicMessageCodecException.class)
+                .hasMessageContaining("count");
+    }
+
+    @Test
+    void invalidLength() {
+        var topicMessage = TopicMessage.builder()
+                .consensusTimestamp(1L)
+                .runningHash(new byte[] {4})
+                .sequenceNumber(1L)
+                .topicId(EntityId.of("0.0.1001"))
+                .build();
+        var bytes = TopicMessageCodec.encode(List.of(topicMessage));
+        int lengthOffset = bytes.length - Integer.BYTES - 1;
+
+        ByteBuffer.wrap(bytes).putInt(lengthOffset, -2);
+        assertThatThrownBy(() -> TopicMessageCodec.decode(bytes))
+                .isInstanceOf(TopicMessageCodecException.class)
+                .hasMessageContaining("length");
+
+        ByteBuffer.wrap(bytes).putInt(lengthOffset, Integer.MAX_VALUE);
+        assertThatThrownBy(() -> TopicMessageCodec.decode(bytes))
+                .isInstanceOf(TopicMessageCodecException.class)
+                .hasMessageContaining("length");
+    }
+
+    @Test
+    void unsupportedVersion() {
+        var bytes = TopicMessageCodec.encode(List.of());
+        bytes[0] = 2;
+
+        assertThatThrownBy(() -> TopicMessageCodec.decode(bytes))
+                .isInstanceOf(TopicMessageCodecException.class)
+                .hasMessageContaining("version");
+    }
+}
@@ -39,4 +39,10 @@ public class GrpcProperties {
 
     @NotNull
     private NettyProperties netty = new NettyProperties();
+
+    @NotNull
+    private Duration responseCacheExpiry = Duration.ofSeconds(10);
+
+    @Min(0)
+    private int responseCacheSize = 10_000;
 }
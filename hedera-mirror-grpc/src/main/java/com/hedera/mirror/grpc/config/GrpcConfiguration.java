@@ -21,6 +21,7 @@ import com.hedera.mirror.grpc.GrpcProperties;
 import io.grpc.ServerBuilder;
 import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
 import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -32,6 +33,8 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.support.TransactionOperations;
 import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
 @Configuration
 @EntityScan({"com.hedera.mirror.common.domain"})
@@ -45,6 +48,22 @@ class GrpcConfiguration {
         return transactionTemplate;
     }
 
+    /**
+     * The scheduler for blocking repository calls made inside reactive pipelines. With virtual threads, each call gets
+     * its own cheap thread so a burst of subscriptions doesn't tie up Reactor's or gRPC's platform threads. Otherwise,
+     * the calls run on the subscribing thread as before.
+     */
+    @Bean(destroyMethod = "dispose")
+    @Qualifier("blocking")
+    Scheduler blockingScheduler(GrpcProperties grpcProperties) {
+        if (grpcProperties.getNetty().getExecutorType() == NettyProperties.ExecutorType.VIRTUAL) {
+            var threadFactory = Thread.ofVirtual().name("grpc-blocking-", 0).factory();
+            return Schedulers.fromExecutorService(Executors.newThreadPerTaskExecutor(threadFactory), "grpc-blocking");
+        }
+
+        return Schedulers.immediate();
+    }
+
     @Bean
     GrpcServerConfigurer grpcServerConfigurer(GrpcProperties grpcProperties) {
         NettyProperties nettyProperties = grpcProperties.getNetty();
@@ -53,23 +72,30 @@ class GrpcConfiguration {
 
     private void customizeServerBuilder(ServerBuilder<?> serverBuilder, NettyProperties nettyProperties) {
         if (serverBuilder instanceof NettyServerBuilder nettyServerBuilder) {
-            Executor executor = new ThreadPoolExecutor(
-                    nettyProperties.getExecutorCoreThreadCount(),
-                    nettyProperties.getExecutorMaxThreadCount(),
-                    nettyProperties.getThreadKeepAliveTime().toSeconds(),
-                    TimeUnit.SECONDS,
-                    new SynchronousQueue<>(),
-                    new ThreadFactoryBuilder()
-                            .setDaemon(true)
-                            .setNameFormat("grpc-executor-%d")
-                            .build());
-
             nettyServerBuilder
-                    .executor(executor)
+                    .executor(executor(nettyProperties))
                     .maxConnectionIdle(nettyProperties.getMaxConnectionIdle().toSeconds(), TimeUnit.SECONDS)
                     .maxConcurrentCallsPerConnection(nettyProperties.getMaxConcurrentCallsPerConnection())
                     .maxInboundMessageSize(nettyProperties.getMaxInboundMessageSize())
                     .maxInboundMetadataSize(nettyProperties.getMaxInboundMetadataSize());
         }
     }
+
+    private Executor executor(NettyProperties nettyProperties) {
+        if (nettyProperties.getExecutorType() == NettyProperties.ExecutorType.VIRTUAL) {
+            var threadFactory = Thread.ofVirtual().name("grpc-executor-", 0).factory();
+            return Executors.newThreadPerTaskExecutor(threadFactory);
+        }
+
+        return new ThreadPoolExecutor(
+                nettyProperties.getExecutorCoreThreadCount(),
+                nettyProperties.getExecutorMaxThreadCount(),
+                nettyProperties.getThreadKeepAliveTime().toSeconds(),
+                TimeUnit.SECONDS,
+                new SynchronousQueue<>(),
+                new ThreadFactoryBuilder()
+                        .setDaemon(true)
+                        .setNameFormat("grpc-executor-%d")
+                        .build());
+    }
 }
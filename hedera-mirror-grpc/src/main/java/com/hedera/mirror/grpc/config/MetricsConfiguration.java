@@ -18,9 +18,15 @@ package com.hedera.mirror.grpc.config;
 
 import io.github.mweirauch.micrometer.jvm.extras.ProcessMemoryMetrics;
 import io.github.mweirauch.micrometer.jvm.extras.ProcessThreadMetrics;
+import com.hedera.mirror.grpc.config.NettyProperties.ExecutorType;
 import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.type.AnnotatedTypeMetadata;
 
 @Configuration
 class MetricsConfiguration {
@@ -34,4 +40,22 @@ class MetricsConfiguration {
     MeterBinder processThreadMetrics() {
         return new ProcessThreadMetrics();
     }
+
+    @Bean
+    @Conditional(VirtualExecutorCondition.class)
+    MeterBinder virtualThreadMetrics() {
+        return new VirtualThreadMetrics();
+    }
+
+    // Binds the executor type the same way as NettyProperties, so it matches regardless of case or property format
+    static class VirtualExecutorCondition implements Condition {
+
+        @Override
+        public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+            return Binder.get(context.getEnvironment())
+                    .bind("hedera.mirror.grpc.netty.executor-type", ExecutorType.class)
+                    .map(ExecutorType.VIRTUAL::equals)
+                    .orElse(false);
+        }
+    }
 }
@@ -35,6 +35,9 @@ public class NettyProperties {
     @Max(10000)
     private int executorMaxThreadCount = 1000;
 
+    @NotNull
+    private ExecutorType executorType = ExecutorType.PLATFORM;
+
     @DurationMin(minutes = 1L)
     @NotNull
     private Duration maxConnectionIdle = Duration.ofMinutes(10L);
@@ -52,4 +55,9 @@ public class NettyProperties {
     @DurationMax(minutes = 5L)
     @NotNull
     private Duration threadKeepAliveTime = Duration.ofMinutes(1L);
+
+    public enum ExecutorType {
+        PLATFORM,
+        VIRTUAL
+    }
 }
@@ -0,0 +1,59 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.grpc.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * Records how often virtual threads are pinned to their carrier thread while blocking, and how often they fail to be
+ * scheduled, using the JDK Flight Recorder events emitted by the virtual thread scheduler. A pinned virtual thread
+ * blocks its carrier, so a rising count means a blocking call is holding a monitor or running native code.
+ */
+final class VirtualThreadMetrics implements MeterBinder, AutoCloseable {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    static final String SUBMIT_FAILED_EVENT = "jdk.VirtualThreadSubmitFailed";
+    private static final Duration PINNED_THRESHOLD = Duration.ofMillis(20L);
+
+    private final RecordingStream recordingStream = new RecordingStream();
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        var pinned = Timer.builder("hedera.mirror.grpc.thread.pinned")
+                .description("The time virtual threads were pinned to their carrier thread while blocked")
+                .register(registry);
+        var submitFailed = Counter.builder("hedera.mirror.grpc.thread.submit.failed")
+                .description("The number of virtual threads that failed to be scheduled on a carrier thread")
+                .register(registry);
+
+        recordingStream.enable(PINNED_EVENT).withThreshold(PINNED_THRESHOLD);
+        recordingStream.enable(SUBMIT_FAILED_EVENT);
+        recordingStream.onEvent(PINNED_EVENT, e -> pinned.record(e.getDuration()));
+        recordingStream.onEvent(SUBMIT_FAILED_EVENT, e -> submitFailed.increment());
+        recordingStream.startAsync();
+    }
+
+    @Override
+    public void close() {
+        recordingStream.close();
+    }
+}
@@ -16,6 +16,8 @@
 
 package com.hedera.mirror.grpc.controller;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.hedera.mirror.api.proto.ConsensusTopicQuery;
 import com.hedera.mirror.api.proto.ConsensusTopicResponse;
@@ -23,13 +25,13 @@ import com.hedera.mirror.api.proto.ReactorConsensusServiceGrpc;
 import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.domain.topic.TopicMessage;
 import com.hedera.mirror.common.util.DomainUtils;
+import com.hedera.mirror.grpc.GrpcProperties;
 import com.hedera.mirror.grpc.domain.TopicMessageFilter;
 import com.hedera.mirror.grpc.service.TopicMessageService;
 import com.hedera.mirror.grpc.util.ProtoUtil;
 import com.hederahashgraph.api.proto.java.ConsensusMessageChunkInfo;
 import com.hederahashgraph.api.proto.java.TransactionID;
 import lombok.CustomLog;
-import lombok.RequiredArgsConstructor;
 import net.devh.boot.grpc.server.service.GrpcService;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -42,11 +44,19 @@ import reactor.core.publisher.Mono;
  */
 @GrpcService
 @CustomLog
-@RequiredArgsConstructor
 public class ConsensusController extends ReactorConsensusServiceGrpc.ConsensusServiceImplBase {
 
+    private final Cache<Long, ConsensusTopicResponse> responseCache;
     private final TopicMessageService topicMessageService;
 
+    public ConsensusController(GrpcProperties grpcProperties, TopicMessageService topicMessageService) {
+        this.responseCache = Caffeine.newBuilder()
+                .expireAfterWrite(grpcProperties.getResponseCacheExpiry())
+                .maximumSize(grpcProperties.getResponseCacheSize())
+                .build();
+        this.topicMessageService = topicMessageService;
+    }
+
     @Override
     public Flux<ConsensusTopicResponse> subscribeTopic(Mono<ConsensusTopicQuery> request) {
         return request.map(this::toFilter)
@@ -75,8 +85,20 @@ public class ConsensusController extends ReactorConsensusServiceGrpc.ConsensusSe
         return filter.build();
     }
 
-    // Consider caching this conversion for multiple subscribers to the same topic if the need arises.
-    private ConsensusTopicResponse toResponse(TopicMessage t) {
+    /*
+     * Subscribers to the same topic receive the same messages around the same time, so the response is converted once
+     * per message and shared. Its serialized size is computed up front since the message memoizes it, which spares the
+     * marshaller from recomputing it for every subscriber.
+     */
+    private ConsensusTopicResponse toResponse(TopicMessage topicMessage) {
+        return responseCache.get(topicMessage.getConsensusTimestamp(), k -> {
+            var response = convert(topicMessage);
+            response.getSerializedSize();
+            return response;
+        });
+    }
+
+    private ConsensusTopicResponse convert(TopicMessage t) {
         var consensusTopicResponseBuilder = ConsensusTopicResponse.newBuilder()
                 .setConsensusTimestamp(ProtoUtil.toTimestamp(t.getConsensusTimestamp()))
                 .setMessage(ProtoUtil.toByteString(t.getMessage()))
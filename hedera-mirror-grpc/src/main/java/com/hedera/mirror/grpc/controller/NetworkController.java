@@ -16,12 +16,15 @@
 
 package com.hedera.mirror.grpc.controller;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.protobuf.ByteString;
 import com.hedera.mirror.api.proto.AddressBookQuery;
 import com.hedera.mirror.api.proto.ReactorNetworkServiceGrpc;
 import com.hedera.mirror.common.domain.addressbook.AddressBookEntry;
 import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.grpc.domain.AddressBookFilter;
+import com.hedera.mirror.grpc.service.AddressBookProperties;
 import com.hedera.mirror.grpc.service.NetworkService;
 import com.hedera.mirror.grpc.util.ProtoUtil;
 import com.hederahashgraph.api.proto.java.NodeAddress;
@@ -39,16 +42,29 @@ import reactor.core.publisher.Mono;
 @RequiredArgsConstructor
 public class NetworkController extends ReactorNetworkServiceGrpc.NetworkServiceImplBase {
 
+    private final AddressBookProperties addressBookProperties;
     private final NetworkService networkService;
 
+    // Keyed by identity so that the entries of an address book snapshot are only converted and serialized once
+    private final Cache<AddressBookEntry, NodeAddress> nodeAddresses = Caffeine.newBuilder().weakKeys().build();
+
     @Override
     public Flux<NodeAddress> getNodes(Mono<AddressBookQuery> request) {
         return request.map(this::toFilter)
                 .flatMapMany(networkService::getNodes)
-                .map(this::toNodeAddress)
+                .map(this::getNodeAddress)
                 .onErrorMap(ProtoUtil::toStatusRuntimeException);
     }
 
+    private NodeAddress getNodeAddress(AddressBookEntry addressBookEntry) {
+        // Snapshot entries are immutable, while other entries may be shared and modified by the repository cache
+        if (addressBookProperties.isSnapshot()) {
+            return nodeAddresses.get(addressBookEntry, this::toNodeAddress);
+        }
+
+        return toNodeAddress(addressBookEntry);
+    }
+
     private AddressBookFilter toFilter(AddressBookQuery query) {
         var filter = AddressBookFilter.builder().limit(query.getLimit());
 
@@ -99,6 +115,8 @@ public class NetworkController extends ReactorNetworkServiceGrpc.NetworkServiceI
             }
         }
 
-        return nodeAddress.build();
+        var built = nodeAddress.build();
+        built.getSerializedSize(); // Memoize the size so the marshaller doesn't recompute it on every response
+        return built;
     }
 }
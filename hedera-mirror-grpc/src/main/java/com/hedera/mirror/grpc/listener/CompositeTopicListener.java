@@ -39,6 +39,7 @@ public class CompositeTopicListener implements TopicListener {
     private final NotifyingTopicListener notifyingTopicListener;
     private final PollingTopicListener pollingTopicListener;
     private final RedisTopicListener redisTopicListener;
+    private final RedisStreamTopicListener redisStreamTopicListener;
     private final SharedPollingTopicListener sharedPollingTopicListener;
     private final MeterRegistry meterRegistry;
     private Timer consensusLatencyTimer;
@@ -73,6 +74,8 @@ public class CompositeTopicListener implements TopicListener {
                 return pollingTopicListener;
             case REDIS:
                 return redisTopicListener;
+            case REDIS_STREAM:
+                return redisStreamTopicListener;
             case SHARED_POLL:
                 return sharedPollingTopicListener;
             default:
@@ -30,6 +30,9 @@ import org.springframework.validation.annotation.Validated;
 @ConfigurationProperties("hedera.mirror.grpc.listener")
 public class ListenerProperties {
 
+    @NotNull
+    private AdaptiveProperties adaptive = new AdaptiveProperties();
+
     private boolean enabled = true;
 
     @Min(8192)
@@ -47,13 +50,47 @@ public class ListenerProperties {
     @Max(256)
     private int prefetch = 48;
 
+    @NotNull
+    private TailProperties tail = new TailProperties();
+
     @NotNull
     private ListenerType type = ListenerType.REDIS;
 
+    @Data
+    @Validated
+    public static class AdaptiveProperties {
+
+        private boolean enabled = false;
+
+        @DurationMin(millis = 50)
+        @NotNull
+        private Duration maxInterval = Duration.ofSeconds(2L);
+
+        private boolean recordFileProbe = false;
+    }
+
+    @Data
+    @Validated
+    public static class TailProperties {
+
+        private boolean enabled = false;
+
+        @DurationMin(seconds = 1)
+        @NotNull
+        private Duration maxAge = Duration.ofMinutes(5L);
+
+        @Min(1024)
+        private long maxBytes = 4L * 1024 * 1024;
+
+        @Min(1024)
+        private long maxTotalBytes = 256L * 1024 * 1024;
+    }
+
     public enum ListenerType {
         NOTIFY,
         POLL,
         REDIS,
+        REDIS_STREAM,
         SHARED_POLL
     }
 }
@@ -17,14 +17,17 @@
 package com.hedera.mirror.grpc.listener;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.hedera.mirror.common.converter.EntityIdDeserializer;
 import com.hedera.mirror.common.converter.EntityIdSerializer;
 import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.domain.topic.TopicMessage;
+import com.hedera.mirror.common.domain.topic.TopicMessageCodec;
 import com.hedera.mirror.grpc.DbProperties;
 import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+import com.hedera.mirror.grpc.repository.TopicMessageRepository;
 import io.micrometer.observation.ObservationRegistry;
 import io.vertx.core.Vertx;
 import io.vertx.core.VertxOptions;
@@ -33,31 +36,42 @@ import io.vertx.pgclient.pubsub.PgChannel;
 import io.vertx.pgclient.pubsub.PgSubscriber;
 import jakarta.inject.Named;
 import java.time.Duration;
-import java.util.Objects;
+import java.util.Base64;
 import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
 import reactor.core.observability.micrometer.Micrometer;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
 import reactor.util.retry.Retry;
 
 @Named
 public class NotifyingTopicListener extends SharedTopicListener {
 
+    private static final Duration FIND_RETRY_DELAY = Duration.ofMillis(100L);
+    private static final int FIND_RETRIES = 10;
+    private static final int MAX_CONCURRENCY = 16;
+
     final ObjectMapper objectMapper;
     private final Mono<PgChannel> channel;
     private final JdbcConnectionDetails connectionDetails;
     private final DbProperties dbProperties;
+    private final TopicMessageDispatcher dispatcher;
+    private final ObjectReader objectReader;
+    private final TopicMessageRepository topicMessageRepository;
     private final Flux<TopicMessage> topicMessages;
 
     public NotifyingTopicListener(
             JdbcConnectionDetails connectionDetails,
             DbProperties dbProperties,
             ListenerProperties listenerProperties,
-            ObservationRegistry observationRegistry) {
+            ObservationRegistry observationRegistry,
+            TopicMessageRepository topicMessageRepository,
+            TopicMessageTail topicMessageTail) {
         super(listenerProperties);
         this.connectionDetails = connectionDetails;
         this.dbProperties = dbProperties;
+        this.topicMessageRepository = topicMessageRepository;
 
         // use EntityIdDeserializer/EntityIdSerializer for EntityIds (e.g. payer_account_id)
         var module = new SimpleModule();
@@ -66,18 +80,24 @@ public class NotifyingTopicListener extends SharedTopicListener {
 
         objectMapper = new ObjectMapper().setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
         objectMapper.registerModule(module);
+        objectReader = objectMapper.readerFor(TopicMessage.class);
 
         channel = Mono.defer(this::createChannel).cache();
         Duration interval = listenerProperties.getInterval();
         topicMessages = Flux.defer(this::listen)
-                .map(this::toTopicMessage)
-                .filter(Objects::nonNull)
+                .flatMapSequential(this::toTopicMessages, MAX_CONCURRENCY)
                 .name(METRIC)
                 .tag(METRIC_TAG, "notify")
                 .tap(Micrometer.observation(observationRegistry))
                 .doOnError(t -> log.error("Error listening for messages", t))
                 .retryWhen(Retry.backoff(Long.MAX_VALUE, interval).maxBackoff(interval.multipliedBy(4L)))
                 .share();
+        dispatcher = new TopicMessageDispatcher(topicMessages, listenerProperties, topicMessageTail);
+    }
+
+    @Override
+    protected TopicMessageDispatcher getDispatcher() {
+        return dispatcher;
     }
 
     @Override
@@ -120,13 +140,41 @@ public class NotifyingTopicListener extends SharedTopicListener {
                 .thenReturn(subscriber.channel("topic_message"));
     }
 
-    private TopicMessage toTopicMessage(String payload) {
+    private Flux<TopicMessage> toTopicMessages(String payload) {
         try {
-            return objectMapper.readValue(payload, TopicMessage.class);
+            if (payload.startsWith(TopicMessageCodec.NOTIFY_BATCH_PREFIX)) {
+                var encoded = payload.substring(TopicMessageCodec.NOTIFY_BATCH_PREFIX.length());
+                return Flux.fromIterable(TopicMessageCodec.decode(Base64.getDecoder().decode(encoded)));
+            } else if (payload.startsWith(TopicMessageCodec.NOTIFY_REFERENCE_PREFIX)) {
+                var consensusTimestamp = payload.substring(TopicMessageCodec.NOTIFY_REFERENCE_PREFIX.length());
+                return findById(Long.parseLong(consensusTimestamp));
+            }
+
+            return Flux.just(objectReader.readValue(payload));
         } catch (Exception ex) {
             // Discard invalid messages. No need to propagate error and cause a reconnect.
             log.error("Error parsing message {}", payload, ex);
-            return null;
+            return Flux.empty();
         }
     }
+
+    // The notification is delivered after the importer commits, but the referenced message may not be visible yet, such
+    // as when reading from a lagging replica, so it's retried for a short while before the message is considered lost.
+    // Later notifications are decoded and looked up while it's retried, then emitted in the order they were received.
+    private Flux<TopicMessage> findById(long consensusTimestamp) {
+        return Mono.fromCallable(() -> topicMessageRepository.findById(consensusTimestamp))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(Mono::justOrEmpty)
+                .repeatWhenEmpty(FIND_RETRIES, r -> r.delayElements(FIND_RETRY_DELAY))
+                .doOnSuccess(t -> {
+                    if (t == null) {
+                        log.warn("Unable to find referenced message with consensus timestamp {}", consensusTimestamp);
+                    }
+                })
+                .onErrorResume(e -> {
+                    log.error("Error retrieving referenced message with consensus timestamp {}", consensusTimestamp, e);
+                    return Mono.empty();
+                })
+                .flux();
+    }
 }
@@ -0,0 +1,146 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.grpc.listener;
+
+import static com.hedera.mirror.common.domain.topic.TopicMessageCodec.STREAM_FIELD;
+import static com.hedera.mirror.common.domain.topic.TopicMessageCodec.STREAM_KEY;
+
+import com.hedera.mirror.common.domain.topic.TopicMessage;
+import com.hedera.mirror.common.domain.topic.TopicMessageCodec;
+import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.inject.Named;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.Record;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveStreamOperations;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import reactor.core.observability.micrometer.Micrometer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+/**
+ * Listens for the batches of topic messages the importer appends to a Redis stream once per record file. A single
+ * stream subscription serves all topics, and after a reconnect it resumes reading after the last entry it received so
+ * messages published in between are not lost.
+ */
+@Lazy
+@Named
+public class RedisStreamTopicListener extends SharedTopicListener {
+
+    private static final RecordId START = RecordId.of(0L, 0L);
+
+    private final TopicMessageDispatcher dispatcher;
+    private final ReactiveStreamOperations<String, String, byte[]> streamOperations;
+    private final Flux<TopicMessage> topicMessages;
+
+    public RedisStreamTopicListener(
+            ListenerProperties listenerProperties,
+            ObservationRegistry observationRegistry,
+            ReactiveRedisConnectionFactory connectionFactory,
+            TopicMessageTail topicMessageTail) {
+        super(listenerProperties);
+        var serializationContext = RedisSerializationContext.<String, byte[]>newSerializationContext(
+                        RedisSerializer.byteArray())
+                .key(RedisSerializer.string())
+                .hashKey(RedisSerializer.string())
+                .build();
+        this.streamOperations = new ReactiveRedisTemplate<>(connectionFactory, serializationContext).opsForStream();
+
+        Duration interval = listenerProperties.getInterval();
+        var lastId = new AtomicReference<RecordId>();
+
+        topicMessages = Flux.defer(() -> read(lastId))
+                .repeat()
+                .name(METRIC)
+                .tag(METRIC_TAG, "redis stream")
+                .tap(Micrometer.observation(observationRegistry))
+                .doOnCancel(() -> log.info("Unsubscribing from {}", STREAM_KEY))
+                .doOnError(t -> log.error("Error reading from {}", STREAM_KEY, t))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, interval).maxBackoff(interval.multipliedBy(4L)))
+                .doOnSubscribe(s -> {
+                    // Only resume within a subscription since new subscribers retrieve older messages from the database
+                    lastId.set(null);
+                    log.info("Creating shared subscription to {}", STREAM_KEY);
+                })
+                .share();
+        dispatcher = new TopicMessageDispatcher(topicMessages, listenerProperties, topicMessageTail);
+    }
+
+    @Override
+    protected TopicMessageDispatcher getDispatcher() {
+        return dispatcher;
+    }
+
+    @Override
+    protected Flux<TopicMessage> getSharedListener(TopicMessageFilter filter) {
+        return topicMessages;
+    }
+
+    private Flux<TopicMessage> read(AtomicReference<RecordId> lastId) {
+        if (!listenerProperties.isEnabled()) {
+            return Flux.empty();
+        }
+
+        var readOptions = StreamReadOptions.empty()
+                .block(listenerProperties.getInterval())
+                .count(listenerProperties.getMaxPageSize());
+
+        return Mono.justOrEmpty(lastId.get())
+                .switchIfEmpty(Mono.defer(this::latestId))
+                .doOnNext(lastId::set)
+                .flatMapMany(id -> streamOperations.read(
+                        readOptions, StreamOffset.create(STREAM_KEY, ReadOffset.from(id))))
+                .doOnNext(r -> lastId.set(r.getId()))
+                .concatMapIterable(this::decode);
+    }
+
+    // Start after the newest entry so that only messages published after subscribing are received
+    private Mono<RecordId> latestId() {
+        return streamOperations
+                .reverseRange(STREAM_KEY, Range.unbounded(), Limit.limit().count(1))
+                .next()
+                .map(Record::getId)
+                .defaultIfEmpty(START);
+    }
+
+    private List<TopicMessage> decode(MapRecord<String, String, byte[]> record) {
+        var bytes = record.getValue().get(STREAM_FIELD);
+
+        if (bytes == null) {
+            log.warn("Ignoring stream entry {} without a {} field", record.getId(), STREAM_FIELD);
+            return List.of();
+        }
+
+        var messages = TopicMessageCodec.decode(bytes);
+        log.debug("Received {} messages from stream entry {}", messages.size(), record.getId());
+        return messages;
+    }
+}
@@ -20,11 +20,16 @@ import com.google.common.base.Stopwatch;
 import com.hedera.mirror.common.domain.topic.TopicMessage;
 import com.hedera.mirror.common.util.DomainUtils;
 import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+import com.hedera.mirror.grpc.repository.RecordFileRepository;
 import com.hedera.mirror.grpc.repository.TopicMessageRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.micrometer.observation.ObservationRegistry;
 import jakarta.inject.Named;
 import java.time.Duration;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import lombok.Data;
 import org.reactivestreams.Subscription;
@@ -32,30 +37,44 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import reactor.core.observability.micrometer.Micrometer;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
-import reactor.retry.Repeat;
 import reactor.util.retry.Retry;
 
 @Named
 public class SharedPollingTopicListener extends SharedTopicListener {
 
+    private final Timer lagTimer;
+    private final RecordFileRepository recordFileRepository;
+    private final DistributionSummary rowsSummary;
     private final TopicMessageRepository topicMessageRepository;
+    private final TopicMessageDispatcher dispatcher;
     private final Flux<TopicMessage> topicMessages;
 
     public SharedPollingTopicListener(
             ListenerProperties listenerProperties,
+            MeterRegistry meterRegistry,
             ObservationRegistry observationRegistry,
-            TopicMessageRepository topicMessageRepository) {
+            RecordFileRepository recordFileRepository,
+            TopicMessageRepository topicMessageRepository,
+            TopicMessageTail topicMessageTail) {
         super(listenerProperties);
+        this.recordFileRepository = recordFileRepository;
         this.topicMessageRepository = topicMessageRepository;
+        this.lagTimer = Timer.builder("hedera.mirror.grpc.listener.poll.lag")
+                .description("The time between consensus of the oldest message in a poll and when it was retrieved")
+                .register(meterRegistry);
+        this.rowsSummary = DistributionSummary.builder("hedera.mirror.grpc.listener.poll.rows")
+                .description("The number of messages retrieved per poll")
+                .register(meterRegistry);
 
         Scheduler scheduler = Schedulers.newSingle("shared-poll", true);
         Duration interval = listenerProperties.getInterval();
         PollingContext context = new PollingContext();
 
         topicMessages = Flux.defer(() -> poll(context).subscribeOn(scheduler))
-                .repeatWhen(Repeat.times(Long.MAX_VALUE).fixedBackoff(interval).withBackoffScheduler(scheduler))
+                .repeatWhen(r -> r.concatMap(i -> Mono.delay(context.nextDelay(), scheduler)))
                 .name(METRIC)
                 .tag(METRIC_TAG, "shared poll")
                 .tap(Micrometer.observation(observationRegistry))
@@ -64,6 +83,12 @@ public class SharedPollingTopicListener extends SharedTopicListener {
                 .doOnSubscribe(context::onStart)
                 .retryWhen(Retry.backoff(Long.MAX_VALUE, interval).maxBackoff(interval.multipliedBy(4L)))
                 .share();
+        dispatcher = new TopicMessageDispatcher(topicMessages, listenerProperties, topicMessageTail);
+    }
+
+    @Override
+    protected TopicMessageDispatcher getDispatcher() {
+        return dispatcher;
     }
 
     @Override
@@ -76,12 +101,16 @@ public class SharedPollingTopicListener extends SharedTopicListener {
             return Flux.empty();
         }
 
+        if (!context.hasNewRecordFile()) {
+            return Flux.empty();
+        }
+
         Pageable pageable = PageRequest.of(0, listenerProperties.getMaxPageSize());
         return Flux.fromIterable(topicMessageRepository.findLatest(
                         context.getLastConsensusTimestamp().get(), pageable))
                 .doOnNext(context::onNext)
                 .doOnCancel(context::onPollEnd)
-                .doOnComplete(context::onPollEnd)
+                .doOnComplete(context::onPollComplete)
                 .doOnSubscribe(context::onPollStart);
     }
 
@@ -90,10 +119,63 @@ public class SharedPollingTopicListener extends SharedTopicListener {
 
         private final AtomicLong count = new AtomicLong(0L);
         private final Stopwatch stopwatch = Stopwatch.createUnstarted();
+        private final AtomicLong firstConsensusTimestamp = new AtomicLong();
         private final AtomicLong lastConsensusTimestamp = new AtomicLong();
+        private final AtomicLong lastRecordFile = new AtomicLong();
+        private final AtomicLong probedRecordFile = new AtomicLong();
+        private final AtomicBoolean recheck = new AtomicBoolean();
+        private volatile Duration delay = Duration.ZERO;
+        private volatile long pageCount;
+
+        /*
+         * Polls again immediately while pages come back full to drain a burst, polls at the interval while messages
+         * are arriving and doubles the delay up to the max interval while they are not.
+         */
+        Duration nextDelay() {
+            var adaptive = listenerProperties.getAdaptive();
+            var interval = listenerProperties.getInterval();
+
+            if (!adaptive.isEnabled()) {
+                return interval;
+            } else if (isPageFull()) {
+                delay = Duration.ZERO;
+            } else if (pageCount > 0 || delay.compareTo(interval) < 0) {
+                delay = interval;
+            } else {
+                var maxInterval = adaptive.getMaxInterval();
+                delay = delay.multipliedBy(2L).compareTo(maxInterval) < 0 ? delay.multipliedBy(2L) : maxInterval;
+            }
+
+            return delay;
+        }
+
+        /*
+         * There can only be new messages if there's a new record file or the last page was full. Checking this is much
+         * cheaper than the message query. The record file is seen after the first poll that completes once it's probed,
+         * but it's queried once more at the next interval in case some of its messages became visible after it.
+         */
+        boolean hasNewRecordFile() {
+            var adaptive = listenerProperties.getAdaptive();
+
+            if (!adaptive.isEnabled() || !adaptive.isRecordFileProbe() || isPageFull()) {
+                return true;
+            }
+
+            long consensusEnd = recordFileRepository.findLatestConsensusEnd().orElse(0L);
+            pageCount = 0L;
+            probedRecordFile.set(consensusEnd);
+            return lastRecordFile.get() != consensusEnd || recheck.getAndSet(false);
+        }
+
+        boolean isPageFull() {
+            return pageCount >= listenerProperties.getMaxPageSize();
+        }
 
         void onNext(TopicMessage topicMessage) {
-            count.incrementAndGet();
+            if (count.incrementAndGet() == 1) {
+                firstConsensusTimestamp.set(topicMessage.getConsensusTimestamp());
+            }
+
             lastConsensusTimestamp.set(topicMessage.getConsensusTimestamp());
             if (log.isTraceEnabled()) {
                 log.trace("Next message: {}", topicMessage);
@@ -104,9 +186,25 @@ public class SharedPollingTopicListener extends SharedTopicListener {
             var elapsed = stopwatch.elapsed(TimeUnit.MILLISECONDS);
             var rate = elapsed > 0 ? (int) (1000.0 * count.get() / elapsed) : 0;
             log.info("Finished querying with {} messages in {} ({}/s)", count, stopwatch, rate);
+            pageCount = count.get();
+            rowsSummary.record(pageCount);
+
+            if (pageCount > 0) {
+                lagTimer.record(DomainUtils.now() - firstConsensusTimestamp.get(), TimeUnit.NANOSECONDS);
+            }
+
             count.set(0L);
         }
 
+        void onPollComplete() {
+            onPollEnd();
+            long recordFile = probedRecordFile.get();
+
+            if (lastRecordFile.getAndSet(recordFile) != recordFile) {
+                recheck.set(true);
+            }
+        }
+
         void onPollStart(Subscription subscription) {
             count.set(0L);
             stopwatch.reset().start();
@@ -114,6 +212,11 @@ public class SharedPollingTopicListener extends SharedTopicListener {
         }
 
         void onStart(Subscription subscription) {
+            delay = Duration.ZERO;
+            lastRecordFile.set(0L);
+            probedRecordFile.set(0L);
+            recheck.set(false);
+            pageCount = 0L;
             lastConsensusTimestamp.set(DomainUtils.now());
             log.info(
                     "Starting to poll every {}ms",
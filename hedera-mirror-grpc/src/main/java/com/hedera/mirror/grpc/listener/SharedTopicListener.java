@@ -36,6 +36,15 @@ public abstract class SharedTopicListener implements TopicListener {
     @Override
     @SuppressWarnings("deprecation")
     public Flux<TopicMessage> listen(TopicMessageFilter filter) {
+        var dispatcher = getDispatcher();
+
+        if (dispatcher != null) {
+            return dispatcher
+                    .listen(filter)
+                    .doOnSubscribe(s -> log.info("Subscribing: {}", filter))
+                    .publishOn(Schedulers.boundedElastic(), false, listenerProperties.getPrefetch());
+        }
+
         DirectProcessor<TopicMessage> overflowProcessor = DirectProcessor.create();
         FluxSink<TopicMessage> overflowSink = overflowProcessor.sink();
 
@@ -49,5 +58,13 @@ public abstract class SharedTopicListener implements TopicListener {
                 .publishOn(Schedulers.boundedElastic(), false, listenerProperties.getPrefetch());
     }
 
+    /**
+     * Returns the dispatcher that routes the messages of a listener shared by all topics to the subscribers of each
+     * topic, or null if the shared listener is already specific to the filter's topic.
+     */
+    protected TopicMessageDispatcher getDispatcher() {
+        return null;
+    }
+
     protected abstract Flux<TopicMessage> getSharedListener(TopicMessageFilter filter);
 }
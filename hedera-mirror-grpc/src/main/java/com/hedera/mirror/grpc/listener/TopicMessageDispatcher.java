@@ -0,0 +1,138 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.grpc.listener;
+
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.topic.TopicMessage;
+import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import lombok.CustomLog;
+import reactor.core.Disposable;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.util.concurrent.Queues;
+
+/**
+ * Routes the messages of a listener shared by all topics to only the subscribers of each message's topic, so the cost
+ * of fanning out a message grows with the number of subscribers to its topic instead of all subscribers. Each subscriber
+ * gets its own bounded queue and receives an overflow error if it falls behind by more than the max buffer size. The
+ * shared listener is subscribed to when the first subscriber arrives and cancelled when the last one leaves. Every
+ * message is also recorded in the topic message tail while the shared listener is active.
+ */
+@CustomLog
+final class TopicMessageDispatcher {
+
+    private final ListenerProperties listenerProperties;
+    private final Map<EntityId, List<TopicSubscriber>> subscribers = new ConcurrentHashMap<>();
+    private final TopicMessageTail topicMessageTail;
+    private final Flux<TopicMessage> topicMessages;
+
+    private int count; // Guarded by this
+    private Disposable subscription; // Guarded by this
+
+    TopicMessageDispatcher(
+            Flux<TopicMessage> topicMessages,
+            ListenerProperties listenerProperties,
+            TopicMessageTail topicMessageTail) {
+        this.listenerProperties = listenerProperties;
+        this.topicMessageTail = topicMessageTail;
+        this.topicMessages = topicMessages;
+    }
+
+    Flux<TopicMessage> listen(TopicMessageFilter filter) {
+        return Flux.defer(() -> {
+            var queue = Queues.<TopicMessage>get(listenerProperties.getMaxBufferSize());
+            var subscriber = new TopicSubscriber(
+                    filter.getTopicId(), Sinks.many().unicast().onBackpressureBuffer(queue.get()));
+            add(subscriber);
+            return subscriber.sink.asFlux().doFinally(s -> remove(subscriber));
+        });
+    }
+
+    int getSubscriberCount(EntityId topicId) {
+        var topicSubscribers = subscribers.get(topicId);
+        return topicSubscribers != null ? topicSubscribers.size() : 0;
+    }
+
+    private synchronized void add(TopicSubscriber subscriber) {
+        subscribers
+                .computeIfAbsent(subscriber.topicId, k -> new CopyOnWriteArrayList<>())
+                .add(subscriber);
+
+        if (count++ == 0) {
+            subscription = topicMessages.subscribe(this::dispatch, this::error, this::complete);
+        }
+    }
+
+    private synchronized void remove(TopicSubscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.topicId, (k, v) -> {
+            v.remove(subscriber);
+            return v.isEmpty() ? null : v;
+        });
+
+        if (--count == 0) {
+            subscription.dispose();
+            subscription = null;
+            topicMessageTail.clear();
+        }
+    }
+
+    private void dispatch(TopicMessage topicMessage) {
+        topicMessageTail.onNext(topicMessage);
+        var topicSubscribers = subscribers.get(topicMessage.getTopicId());
+
+        if (topicSubscribers != null) {
+            for (var subscriber : topicSubscribers) {
+                subscriber.emit(topicMessage);
+            }
+        }
+    }
+
+    private void complete() {
+        topicMessageTail.clear();
+        subscribers.values().forEach(s -> s.forEach(t -> t.sink.tryEmitComplete()));
+    }
+
+    private void error(Throwable throwable) {
+        topicMessageTail.clear();
+        subscribers.values().forEach(s -> s.forEach(t -> t.sink.tryEmitError(throwable)));
+    }
+
+    // Identity based equality so that subscribers with the same filter are distinct
+    private static final class TopicSubscriber {
+
+        private final Sinks.Many<TopicMessage> sink;
+        private final EntityId topicId;
+
+        private TopicSubscriber(EntityId topicId, Sinks.Many<TopicMessage> sink) {
+            this.sink = sink;
+            this.topicId = topicId;
+        }
+
+        // Only called from the shared listener's thread, which makes it the single producer of the queue
+        private void emit(TopicMessage topicMessage) {
+            if (sink.tryEmitNext(topicMessage) == Sinks.EmitResult.FAIL_OVERFLOW) {
+                log.warn("Subscriber to topic {} overflowed its buffer", topicId);
+                sink.tryEmitError(Exceptions.failWithOverflow());
+            }
+        }
+    }
+}
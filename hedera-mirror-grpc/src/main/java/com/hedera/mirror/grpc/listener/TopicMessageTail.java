@@ -0,0 +1,167 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.grpc.listener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.topic.TopicMessage;
+import com.hedera.mirror.common.util.DomainUtils;
+import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+import jakarta.inject.Named;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.CustomLog;
+
+/**
+ * Keeps the most recent messages of each topic received by the active shared listener so that subscriptions starting
+ * slightly in the past and gap fills can be served from memory instead of the database. Each topic's buffer only holds
+ * messages with consecutive sequence numbers, so it contains every message from its oldest message onward. Messages
+ * are evicted by age and by the number of bytes buffered per topic. The buffers of topics that received no message
+ * within the max age expire and the least valuable buffers are evicted once all buffers exceed the total byte limit.
+ * All buffers are cleared whenever the shared listener stops since messages could be missed until it resumes.
+ */
+@CustomLog
+@Named
+public class TopicMessageTail {
+
+    private static final int MESSAGE_OVERHEAD = 128;
+
+    private final Cache<EntityId, TopicBuffer> buffers;
+    private final ListenerProperties listenerProperties;
+
+    public TopicMessageTail(ListenerProperties listenerProperties) {
+        var properties = listenerProperties.getTail();
+        this.buffers = Caffeine.newBuilder()
+                .executor(Runnable::run) // Evicting is cheap and doing it inline keeps the total byte limit strict
+                .expireAfterWrite(properties.getMaxAge())
+                .maximumWeight(properties.getMaxTotalBytes())
+                .weigher((EntityId topicId, TopicBuffer buffer) -> buffer.weight())
+                .build();
+        this.listenerProperties = listenerProperties;
+    }
+
+    /**
+     * Finds the buffered messages matching the filter if the buffer holds every message from the filter's start time.
+     *
+     * @param filter the filter with the topic, start time and optional end time and limit
+     * @param live   whether the caller switches to the listener afterward and can accept the messages received so far,
+     *               otherwise all messages up to the end time or limit must be buffered
+     * @return the matching messages or null if they are not all buffered
+     */
+    public List<TopicMessage> find(TopicMessageFilter filter, boolean live) {
+        if (!listenerProperties.getTail().isEnabled()) {
+            return null;
+        }
+
+        var buffer = buffers.getIfPresent(filter.getTopicId());
+        return buffer != null ? buffer.find(filter, live) : null;
+    }
+
+    void clear() {
+        if (buffers.estimatedSize() > 0) {
+            buffers.invalidateAll();
+            log.info("Cleared the topic message tail");
+        }
+    }
+
+    void onNext(TopicMessage topicMessage) {
+        var properties = listenerProperties.getTail();
+        if (properties.isEnabled()) {
+            long minTimestamp = DomainUtils.now() - properties.getMaxAge().toNanos();
+            // Adding within compute lets the cache reweigh the buffer and restart its expiration
+            buffers.asMap().compute(topicMessage.getTopicId(), (k, buffer) -> {
+                var topicBuffer = buffer != null ? buffer : new TopicBuffer();
+                topicBuffer.add(topicMessage, minTimestamp, properties.getMaxBytes());
+                return topicBuffer;
+            });
+        }
+    }
+
+    private static long size(TopicMessage topicMessage) {
+        return MESSAGE_OVERHEAD
+                + length(topicMessage.getMessage())
+                + length(topicMessage.getRunningHash())
+                + length(topicMessage.getInitialTransactionId());
+    }
+
+    private static int length(byte[] bytes) {
+        return bytes != null ? bytes.length : 0;
+    }
+
+    private static class TopicBuffer {
+
+        private final ArrayDeque<TopicMessage> messages = new ArrayDeque<>();
+        private long bytes;
+        private long coveredFrom; // The consensus timestamp from which every message is buffered
+
+        synchronized void add(TopicMessage topicMessage, long minTimestamp, long maxBytes) {
+            var last = messages.peekLast();
+
+            if (last != null && topicMessage.getSequenceNumber() <= last.getSequenceNumber()) {
+                return;
+            } else if (last != null && topicMessage.getSequenceNumber() != last.getSequenceNumber() + 1) {
+                messages.clear();
+                bytes = 0L;
+            }
+
+            if (messages.isEmpty()) {
+                coveredFrom = topicMessage.getConsensusTimestamp();
+            }
+
+            messages.addLast(topicMessage);
+            bytes += size(topicMessage);
+
+            for (var first = messages.peekFirst();
+                    first != null && (bytes > maxBytes || first.getConsensusTimestamp() < minTimestamp);
+                    first = messages.peekFirst()) {
+                messages.removeFirst();
+                bytes -= size(first);
+                coveredFrom = first.getConsensusTimestamp() + 1;
+            }
+        }
+
+        synchronized int weight() {
+            return (int) Math.min(bytes, Integer.MAX_VALUE);
+        }
+
+        synchronized List<TopicMessage> find(TopicMessageFilter filter, boolean live) {
+            var last = messages.peekLast();
+
+            if (last == null || filter.getStartTime() < coveredFrom) {
+                return null;
+            }
+
+            long endTime = filter.getEndTime() != null ? filter.getEndTime() : Long.MAX_VALUE;
+            var result = new ArrayList<TopicMessage>();
+
+            for (var topicMessage : messages) {
+                long consensusTimestamp = topicMessage.getConsensusTimestamp();
+
+                if (consensusTimestamp >= endTime || (filter.hasLimit() && result.size() >= filter.getLimit())) {
+                    return result;
+                } else if (consensusTimestamp >= filter.getStartTime()) {
+                    result.add(topicMessage);
+                }
+            }
+
+            boolean complete = filter.hasLimit() && result.size() >= filter.getLimit();
+            return live || complete || endTime <= last.getConsensusTimestamp() + 1 ? result : null;
+        }
+    }
+}
@@ -20,9 +20,22 @@ import com.hedera.mirror.common.domain.topic.TopicMessage;
 import com.hedera.mirror.grpc.domain.TopicMessageFilter;
 import java.util.stream.Stream;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
 
 public interface TopicMessageRepositoryCustom {
 
     @Transactional(readOnly = true)
     Stream<TopicMessage> findByFilter(TopicMessageFilter filter);
+
+    /**
+     * Streams the topic messages matching the filter from a server-side cursor. Rows are fetched in small batches as
+     * they are requested and mapped directly to topic messages without going through the persistence context. The
+     * cursor holds a database connection on a dedicated thread until it is exhausted or cancelled, so the query hint
+     * only needs to be applied once for all of its messages. Callers should bound how long they keep it open, since
+     * the connection stays idle in transaction while the subscriber applies backpressure.
+     *
+     * @param filter the topic message filter
+     * @return the topic messages in consensus timestamp order
+     */
+    Flux<TopicMessage> streamByFilter(TopicMessageFilter filter);
 }
@@ -16,6 +16,7 @@
 
 package com.hedera.mirror.grpc.repository;
 
+import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.domain.topic.TopicMessage;
 import com.hedera.mirror.grpc.domain.TopicMessageFilter;
 import jakarta.inject.Named;
@@ -25,10 +26,18 @@ import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.stream.Stream;
+import javax.sql.DataSource;
 import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
 import org.hibernate.jpa.HibernateHints;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.SynchronousSink;
+import reactor.core.scheduler.Schedulers;
 
 @CustomLog
 @Named
@@ -41,6 +50,19 @@ public class TopicMessageRepositoryCustomImpl implements TopicMessageRepositoryC
 
     private static final String CONSENSUS_TIMESTAMP = "consensusTimestamp";
 
+    private static final int FETCH_SIZE = 100;
+
+    private static final String STREAM_QUERY =
+            """
+            select chunk_num, chunk_total, consensus_timestamp, initial_transaction_id, message, payer_account_id,
+              running_hash, running_hash_version, sequence_number, topic_id, valid_start_timestamp
+            from topic_message
+            where topic_id = ? and consensus_timestamp >= ? and consensus_timestamp < ?
+            order by consensus_timestamp
+            limit ?
+            """;
+
+    private final DataSource dataSource;
     private final EntityManager entityManager;
 
     @Override
@@ -73,4 +95,83 @@ public class TopicMessageRepositoryCustomImpl implements TopicMessageRepositoryC
 
         return typedQuery.getResultList().stream(); // getResultStream()'s cursor doesn't work with reactive streams
     }
+
+    @Override
+    public Flux<TopicMessage> streamByFilter(TopicMessageFilter filter) {
+        return Flux.generate(() -> open(filter), this::next, Cursor::close).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private Cursor open(TopicMessageFilter filter) throws SQLException {
+        var connection = dataSource.getConnection();
+
+        try {
+            // A server-side cursor requires a transaction
+            connection.setAutoCommit(false);
+
+            if (filter.getLimit() != 1) {
+                try (var statement = connection.createStatement()) {
+                    statement.execute(TOPIC_MESSAGES_BY_ID_QUERY_HINT);
+                }
+            }
+
+            var statement = connection.prepareStatement(STREAM_QUERY);
+            statement.setFetchSize(FETCH_SIZE);
+            statement.setLong(1, filter.getTopicId().getId());
+            statement.setLong(2, filter.getStartTime());
+            statement.setLong(3, filter.getEndTime() != null ? filter.getEndTime() : Long.MAX_VALUE);
+            statement.setLong(4, filter.hasLimit() ? filter.getLimit() : Long.MAX_VALUE);
+            return new Cursor(connection, statement, statement.executeQuery());
+        } catch (SQLException | RuntimeException e) {
+            connection.close();
+            throw e;
+        }
+    }
+
+    private Cursor next(Cursor cursor, SynchronousSink<TopicMessage> sink) {
+        try {
+            var resultSet = cursor.resultSet();
+
+            if (resultSet.next()) {
+                sink.next(toTopicMessage(resultSet));
+            } else {
+                sink.complete();
+            }
+        } catch (SQLException e) {
+            sink.error(e);
+        }
+
+        return cursor;
+    }
+
+    private TopicMessage toTopicMessage(ResultSet resultSet) throws SQLException {
+        long payerAccountId = resultSet.getLong(6);
+        var payerAccount = resultSet.wasNull() ? null : EntityId.of(payerAccountId);
+
+        return TopicMessage.builder()
+                .chunkNum(resultSet.getObject(1, Integer.class))
+                .chunkTotal(resultSet.getObject(2, Integer.class))
+                .consensusTimestamp(resultSet.getLong(3))
+                .initialTransactionId(resultSet.getBytes(4))
+                .message(resultSet.getBytes(5))
+                .payerAccountId(payerAccount)
+                .runningHash(resultSet.getBytes(7))
+                .runningHashVersion(resultSet.getInt(8))
+                .sequenceNumber(resultSet.getLong(9))
+                .topicId(EntityId.of(resultSet.getLong(10)))
+                .validStartTimestamp(resultSet.getObject(11, Long.class))
+                .build();
+    }
+
+    private record Cursor(Connection connection, PreparedStatement statement, ResultSet resultSet) {
+
+        void close() {
+            try (connection;
+                    statement;
+                    resultSet) {
+                connection.rollback(); // Read-only, so there's nothing to commit
+            } catch (SQLException e) {
+                log.warn("Error closing topic message cursor", e);
+            }
+        }
+    }
 }
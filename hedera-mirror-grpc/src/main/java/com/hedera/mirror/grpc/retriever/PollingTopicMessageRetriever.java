@@ -19,17 +19,20 @@ package com.hedera.mirror.grpc.retriever;
 import com.google.common.base.Stopwatch;
 import com.hedera.mirror.common.domain.topic.TopicMessage;
 import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+import com.hedera.mirror.grpc.listener.TopicMessageTail;
 import com.hedera.mirror.grpc.repository.TopicMessageRepository;
 import io.micrometer.observation.ObservationRegistry;
 import jakarta.inject.Named;
 import java.time.Duration;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import lombok.CustomLog;
 import lombok.Data;
 import reactor.core.observability.micrometer.Micrometer;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 import reactor.retry.Jitter;
@@ -41,17 +44,22 @@ import reactor.util.retry.Retry;
 public class PollingTopicMessageRetriever implements TopicMessageRetriever {
 
     private final ObservationRegistry observationRegistry;
+    private final TopicMessagePageCoalescer pageCoalescer;
     private final RetrieverProperties retrieverProperties;
-    private final TopicMessageRepository topicMessageRepository;
     private final Scheduler scheduler;
+    private final TopicMessageRepository topicMessageRepository;
+    private final TopicMessageTail topicMessageTail;
 
     public PollingTopicMessageRetriever(
             ObservationRegistry observationRegistry,
             RetrieverProperties retrieverProperties,
-            TopicMessageRepository topicMessageRepository) {
+            TopicMessageRepository topicMessageRepository,
+            TopicMessageTail topicMessageTail) {
         this.observationRegistry = observationRegistry;
         this.retrieverProperties = retrieverProperties;
+        this.pageCoalescer = new TopicMessagePageCoalescer(retrieverProperties, topicMessageRepository);
         this.topicMessageRepository = topicMessageRepository;
+        this.topicMessageTail = topicMessageTail;
         int threadCount =
                 retrieverProperties.getThreadMultiplier() * Runtime.getRuntime().availableProcessors();
         scheduler = Schedulers.newParallel("retriever", threadCount, true);
@@ -63,6 +71,13 @@ public class PollingTopicMessageRetriever implements TopicMessageRetriever {
             return Flux.empty();
         }
 
+        // A throttled retrieval is followed by the listener, so it only needs the messages received so far
+        var buffered = topicMessageTail.find(filter, throttled);
+        if (buffered != null) {
+            log.debug("[{}] Retrieved {} messages from the tail", filter.getSubscriberId(), buffered.size());
+            return Flux.fromIterable(buffered);
+        }
+
         PollingContext context = new PollingContext(filter, throttled);
         return Flux.defer(() -> poll(context))
                 .repeatWhen(Repeat.create(r -> !context.isComplete(), context.getNumRepeats())
@@ -87,11 +102,26 @@ public class PollingTopicMessageRetriever implements TopicMessageRetriever {
         int pageSize = Math.min(limit, context.getMaxPageSize());
         var startTime = last != null ? last.getConsensusTimestamp() + 1 : filter.getStartTime();
         context.getPageSize().set(0L);
+        context.getCursorExpired().set(false);
+
+        if (retrieverProperties.isCursor() && retrieverProperties.getCoalesceWindow().isZero()) {
+            // A single cursor streams all remaining messages instead of a page, so it's only set up once per poll
+            var cursorFilter = filter.toBuilder()
+                    .limit(filter.hasLimit() ? limit : 0L)
+                    .startTime(startTime)
+                    .build();
+            // The cursor holds a connection idle in transaction while the subscriber applies backpressure, so it's
+            // closed after a while and the next poll reopens it after the last message
+            var expired = Mono.delay(retrieverProperties.getCursorMaxDuration(), scheduler)
+                    .doOnNext(d -> context.getCursorExpired().set(true));
+            log.debug("Executing cursor query: {}", cursorFilter);
+            return topicMessageRepository.streamByFilter(cursorFilter).takeUntilOther(expired);
+        }
 
         var newFilter = filter.toBuilder().limit(pageSize).startTime(startTime).build();
 
         log.debug("Executing query: {}", newFilter);
-        return Flux.fromStream(topicMessageRepository.findByFilter(newFilter));
+        return Flux.fromIterable(pageCoalescer.load(newFilter));
     }
 
     @Data
@@ -100,6 +130,7 @@ public class PollingTopicMessageRetriever implements TopicMessageRetriever {
         private final TopicMessageFilter filter;
         private final boolean throttled;
         private final Duration frequency;
+        private final AtomicBoolean cursorExpired = new AtomicBoolean(false);
         private final AtomicReference<TopicMessage> last = new AtomicReference<>();
         private final int maxPageSize;
         private final long numRepeats;
@@ -130,7 +161,7 @@ public class PollingTopicMessageRetriever implements TopicMessageRetriever {
         /**
          * Checks if this publisher is complete by comparing if the number of results in the last page was less than the
          * page size or if the limit has reached if it's set. This avoids the extra query if we were to just check if
-         * last page was empty.
+         * last page was empty. A cursor closed because it expired is never complete, since it may have more messages.
          *
          * @return whether all historic messages have been returned
          */
@@ -138,7 +169,7 @@ public class PollingTopicMessageRetriever implements TopicMessageRetriever {
             boolean limitHit = filter.hasLimit() && filter.getLimit() == total.get();
 
             if (throttled) {
-                return pageSize.get() < retrieverProperties.getMaxPageSize() || limitHit;
+                return (pageSize.get() < retrieverProperties.getMaxPageSize() && !cursorExpired.get()) || limitHit;
             }
 
             return limitHit;
@@ -29,6 +29,18 @@ import org.springframework.validation.annotation.Validated;
 @ConfigurationProperties("hedera.mirror.grpc.retriever")
 public class RetrieverProperties {
 
+    @Min(1)
+    private long coalesceMaxMessages = 100_000L;
+
+    @NotNull
+    private Duration coalesceWindow = Duration.ZERO;
+
+    private boolean cursor = false;
+
+    @DurationMin(millis = 100)
+    @NotNull
+    private Duration cursorMaxDuration = Duration.ofSeconds(10L);
+
     private boolean enabled = true;
 
     @Min(32)
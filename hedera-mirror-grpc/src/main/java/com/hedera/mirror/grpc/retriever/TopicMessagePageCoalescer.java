@@ -0,0 +1,172 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.grpc.retriever;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.topic.TopicMessage;
+import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+import com.hedera.mirror.grpc.repository.TopicMessageRepository;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.CustomLog;
+
+/**
+ * Coalesces the historical page queries of concurrent subscribers to the same topic, such as when many clients
+ * reconnect after a restart. A page queried by one subscriber is kept for the coalesce window and any other subscriber
+ * whose page falls within it is served a slice starting at its own start time instead of querying the database. Only
+ * loaded pages are shared, so a subscriber never waits on another subscriber's query. Pages only cover the messages
+ * that existed when they were queried, which is no different than querying slightly earlier since missing messages are
+ * filled in once the subscriber switches to the listener.
+ */
+@CustomLog
+final class TopicMessagePageCoalescer {
+
+    private final Cache<EntityId, List<Page>> pages;
+    private final RetrieverProperties retrieverProperties;
+    private final TopicMessageRepository topicMessageRepository;
+
+    TopicMessagePageCoalescer(RetrieverProperties retrieverProperties, TopicMessageRepository topicMessageRepository) {
+        this.pages = Caffeine.newBuilder()
+                .expireAfterWrite(retrieverProperties.getCoalesceWindow())
+                .maximumWeight(retrieverProperties.getCoalesceMaxMessages())
+                .weigher((EntityId topicId, List<Page> topicPages) -> weigh(topicPages))
+                .build();
+        this.retrieverProperties = retrieverProperties;
+        this.topicMessageRepository = topicMessageRepository;
+    }
+
+    /**
+     * Loads a page of topic messages matching the filter, either from a page shared by another subscriber or from the
+     * database.
+     *
+     * @param filter the filter with the topic, the start time, the optional end time and the page size as the limit
+     * @return the topic messages in ascending consensus timestamp order
+     */
+    List<TopicMessage> load(TopicMessageFilter filter) {
+        long window = retrieverProperties.getCoalesceWindow().toNanos();
+
+        if (window <= 0) {
+            return topicMessageRepository.findByFilter(filter).toList();
+        }
+
+        var topicId = filter.getTopicId();
+        var topicPages = pages.getIfPresent(topicId);
+        long now = System.nanoTime();
+
+        if (topicPages != null) {
+            for (var page : topicPages) {
+                if (now - page.created <= window && page.mayCover(filter)) {
+                    var messages = page.slice(filter);
+                    if (messages != null) {
+                        var subscriberId = filter.getSubscriberId();
+                        log.debug("[{}] Coalesced query with page starting at {}", subscriberId, page.start);
+                        return messages;
+                    }
+                }
+            }
+        }
+
+        var messages = topicMessageRepository.findByFilter(filter).toList();
+        var page = new Page(filter, messages, now);
+        pages.asMap().compute(topicId, (k, v) -> add(v, page, window));
+        return messages;
+    }
+
+    // The cached lists are never modified so the cache can weigh them once when they are written
+    private static List<Page> add(List<Page> topicPages, Page page, long window) {
+        var result = new ArrayList<Page>();
+
+        if (topicPages != null) {
+            for (var existing : topicPages) {
+                if (page.created - existing.created <= window) {
+                    result.add(existing);
+                }
+            }
+        }
+
+        result.add(page);
+        return result;
+    }
+
+    private static int weigh(List<Page> topicPages) {
+        return topicPages.stream().mapToInt(page -> page.messages.size() + 1).sum();
+    }
+
+    private static class Page {
+
+        private final long created;
+        private final long end;
+        private final long limit;
+        private final List<TopicMessage> messages;
+        private final long start;
+
+        private Page(TopicMessageFilter filter, List<TopicMessage> messages, long created) {
+            this.created = created;
+            this.end = endTime(filter);
+            this.limit = filter.getLimit();
+            this.messages = messages;
+            this.start = filter.getStartTime();
+        }
+
+        private static long endTime(TopicMessageFilter filter) {
+            return filter.getEndTime() != null ? filter.getEndTime() : Long.MAX_VALUE;
+        }
+
+        boolean mayCover(TopicMessageFilter filter) {
+            return filter.hasLimit() && start <= filter.getStartTime() && end >= endTime(filter);
+        }
+
+        /**
+         * Returns the messages of this page that match the filter if the page contains all of them, otherwise null. A
+         * page that returned fewer messages than its limit contains every message up to its end time, while a full
+         * page only contains the messages up to its last message.
+         */
+        List<TopicMessage> slice(TopicMessageFilter filter) {
+            long startTime = filter.getStartTime();
+            long endTime = endTime(filter);
+            int from = fromIndex(messages, startTime);
+            int to = from;
+            long max = Math.min(messages.size(), from + filter.getLimit());
+
+            while (to < max && messages.get(to).getConsensusTimestamp() < endTime) {
+                to++;
+            }
+
+            boolean full = messages.size() >= limit;
+            boolean complete = to - from >= filter.getLimit() || !full || to < messages.size();
+            return complete ? messages.subList(from, to) : null;
+        }
+
+        private static int fromIndex(List<TopicMessage> messages, long startTime) {
+            int low = 0;
+            int high = messages.size();
+
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (messages.get(mid).getConsensusTimestamp() < startTime) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+
+            return low;
+        }
+    }
+}
@@ -53,4 +53,10 @@ public class AddressBookProperties {
 
     @Min(1)
     private int pageSize = 10;
+
+    private boolean snapshot = false;
+
+    @DurationMin(millis = 100L)
+    @NotNull
+    private Duration snapshotRefresh = Duration.ofSeconds(10L);
 }
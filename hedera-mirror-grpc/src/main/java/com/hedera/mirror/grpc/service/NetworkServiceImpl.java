@@ -24,9 +24,12 @@ import com.hedera.mirror.grpc.repository.AddressBookEntryRepository;
 import com.hedera.mirror.grpc.repository.AddressBookRepository;
 import com.hedera.mirror.grpc.repository.NodeStakeRepository;
 import jakarta.inject.Named;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -38,6 +41,7 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.transaction.support.TransactionOperations;
 import org.springframework.validation.annotation.Validated;
 import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 import reactor.retry.Jitter;
 import reactor.retry.Repeat;
@@ -58,9 +62,14 @@ public class NetworkServiceImpl implements NetworkService {
     private final AddressBookEntryRepository addressBookEntryRepository;
     private final NodeStakeRepository nodeStakeRepository;
 
+    @Qualifier("blocking")
+    private final Scheduler blockingScheduler;
+
     @Qualifier("readOnly")
     private final TransactionOperations transactionOperations;
 
+    private final Map<Long, AddressBookSnapshot> snapshots = new ConcurrentHashMap<>();
+
     @Override
     public Flux<AddressBookEntry> getNodes(AddressBookFilter filter) {
         var fileId = filter.getFileId();
@@ -68,6 +77,13 @@ public class NetworkServiceImpl implements NetworkService {
             throw new IllegalArgumentException(INVALID_FILE_ID);
         }
 
+        if (addressBookProperties.isSnapshot()) {
+            var snapshot = snapshots.compute(fileId.getId(), (id, current) -> refresh(fileId, current));
+            return Flux.fromIterable(snapshot.entries())
+                    .take(filter.getLimit() > 0 ? filter.getLimit() : Long.MAX_VALUE)
+                    .doOnSubscribe(s -> log.info("Querying for address book: {}", filter));
+        }
+
         long addressBookTimestamp = addressBookRepository
                 .findLatestTimestamp(fileId.getId())
                 .orElseThrow(() -> new EntityNotFoundException(fileId));
@@ -76,6 +92,7 @@ public class NetworkServiceImpl implements NetworkService {
         var context = new AddressBookContext(addressBookTimestamp, nodeStakeMap);
 
         return Flux.defer(() -> page(context))
+                .subscribeOn(blockingScheduler)
                 .repeatWhen(Repeat.onlyIf(c -> !context.isComplete())
                         .randomBackoff(addressBookProperties.getMinPageDelay(), addressBookProperties.getMaxPageDelay())
                         .jitter(Jitter.random())
@@ -86,6 +103,48 @@ public class NetworkServiceImpl implements NetworkService {
                 .doOnComplete(() -> log.info("Retrieved {} nodes from the address book", context.getCount()));
     }
 
+    /**
+     * Returns the current snapshot of the address book if it's still valid, otherwise loads all of its entries into a
+     * new snapshot. The latest address book and node stake timestamps are only checked once every snapshot refresh
+     * interval and the entries are only reloaded if either timestamp changed.
+     */
+    private AddressBookSnapshot refresh(EntityId fileId, AddressBookSnapshot snapshot) {
+        long now = System.nanoTime();
+        if (snapshot != null && now - snapshot.checked() < addressBookProperties.getSnapshotRefresh().toNanos()) {
+            return snapshot;
+        }
+
+        long addressBookTimestamp = addressBookRepository
+                .findLatestTimestamp(fileId.getId())
+                .orElseThrow(() -> new EntityNotFoundException(fileId));
+        long nodeStakeTimestamp = nodeStakeRepository.findLatestTimestamp().orElse(NODE_STAKE_EMPTY_TABLE_TIMESTAMP);
+
+        if (snapshot != null
+                && snapshot.addressBookTimestamp() == addressBookTimestamp
+                && snapshot.nodeStakeTimestamp() == nodeStakeTimestamp) {
+            return new AddressBookSnapshot(addressBookTimestamp, nodeStakeTimestamp, snapshot.entries(), now);
+        }
+
+        var nodeStakeMap = nodeStakeRepository.findAllStakeByConsensusTimestamp(nodeStakeTimestamp);
+        var context = new AddressBookContext(addressBookTimestamp, nodeStakeMap);
+        var entries = new ArrayList<AddressBookEntry>();
+
+        while (!context.isComplete()) {
+            page(context).toIterable().forEach(entry -> {
+                context.onNext(entry);
+                // Copy so later stake overrides of the cached repository entries don't leak into the snapshot
+                entries.add(entry.toBuilder().build());
+            });
+        }
+
+        log.info(
+                "Loaded {} nodes from the address book {} at timestamp {} into a snapshot",
+                entries.size(),
+                fileId,
+                addressBookTimestamp);
+        return new AddressBookSnapshot(addressBookTimestamp, nodeStakeTimestamp, List.copyOf(entries), now);
+    }
+
     private Flux<AddressBookEntry> page(AddressBookContext context) {
         return transactionOperations.execute(t -> {
             var addressBookTimestamp = context.getAddressBookTimestamp();
@@ -117,6 +176,9 @@ public class NetworkServiceImpl implements NetworkService {
         });
     }
 
+    private record AddressBookSnapshot(
+            long addressBookTimestamp, long nodeStakeTimestamp, List<AddressBookEntry> entries, long checked) {}
+
     @Value
     private static class AddressBookContext {
 
@@ -39,10 +39,12 @@ import java.util.concurrent.atomic.AtomicReference;
 import lombok.CustomLog;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.validation.annotation.Validated;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.SignalType;
+import reactor.core.scheduler.Scheduler;
 import reactor.retry.Repeat;
 
 @Named
@@ -56,6 +58,10 @@ public class TopicMessageServiceImpl implements TopicMessageService {
     private final EntityRepository entityRepository;
     private final TopicMessageRetriever topicMessageRetriever;
     private final MeterRegistry meterRegistry;
+
+    @Qualifier("blocking")
+    private final Scheduler blockingScheduler;
+
     private final AtomicLong subscriberCount = new AtomicLong(0L);
 
     @PostConstruct
@@ -93,7 +99,9 @@ public class TopicMessageServiceImpl implements TopicMessageService {
 
     private Mono<?> topicExists(TopicMessageFilter filter) {
         var topicId = filter.getTopicId();
-        return Mono.justOrEmpty(entityRepository.findById(topicId.getId()))
+        return Mono.fromCallable(() -> entityRepository.findById(topicId.getId()))
+                .subscribeOn(blockingScheduler)
+                .flatMap(Mono::justOrEmpty)
                 .switchIfEmpty(
                         grpcProperties.isCheckTopicExists()
                                 ? Mono.error(new EntityNotFoundException(topicId))
@@ -158,6 +158,24 @@ class ConsensusControllerTest extends GrpcIntegrationTest {
                         grpcResponse(topicMessage1), grpcResponse(topicMessage2), grpcResponse(topicMessage3));
     }
 
+    @Test
+    void subscribeTopicMultipleSubscribers() {
+        var topicMessage1 = domainBuilder.topicMessage().block();
+        var topicMessage2 = domainBuilder.topicMessage().block();
+
+        ConsensusTopicQuery query = ConsensusTopicQuery.newBuilder()
+                .setLimit(2L)
+                .setConsensusStartTime(Timestamp.newBuilder().setSeconds(0).build())
+                .setTopicID(TopicID.newBuilder().setRealmNum(0).setTopicNum(100).build())
+                .build();
+
+        for (int i = 0; i < 2; i++) {
+            assertThat(blockingService.subscribeTopic(query))
+                    .toIterable()
+                    .containsExactly(grpcResponse(topicMessage1), grpcResponse(topicMessage2));
+        }
+    }
+
     @Test
     void subscribeTopicQueryLongOverflowEndTime() {
         var topicMessage1 = domainBuilder.topicMessage().block();
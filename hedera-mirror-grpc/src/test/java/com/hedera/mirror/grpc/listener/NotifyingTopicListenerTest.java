@@ -18,8 +18,12 @@ package com.hedera.mirror.grpc.listener;
 
 import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.domain.topic.TopicMessage;
+import com.hedera.mirror.common.domain.topic.TopicMessageCodec;
+import com.hedera.mirror.common.util.DomainUtils;
 import com.hedera.mirror.grpc.domain.TopicMessageFilter;
 import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -105,6 +109,79 @@ class NotifyingTopicListenerTest extends AbstractSharedTopicListenerTest {
                 .verify(WAIT);
     }
 
+    @Test
+    void batch() {
+        var topicMessage1 = domainBuilder.topicMessage(t -> t.topicId(topicId)).block();
+        var topicMessage2 = domainBuilder.topicMessage(t -> t.topicId(topicId)).block();
+        var payload = TopicMessageCodec.NOTIFY_BATCH_PREFIX
+                + Base64.getEncoder().encodeToString(TopicMessageCodec.encode(List.of(topicMessage1, topicMessage2)));
+        var filter = TopicMessageFilter.builder().startTime(0).topicId(topicId).build();
+
+        StepVerifier.create(topicListener.listen(filter))
+                .thenAwait(Duration.ofMillis(200L))
+                .then(() -> jdbcTemplate.queryForMap("select pg_notify('topic_message', ?)", payload))
+                .thenAwait(Duration.ofMillis(200L))
+                .expectNext(topicMessage1, topicMessage2)
+                .thenCancel()
+                .verify(WAIT);
+    }
+
+    @Test
+    void reference() {
+        var topicMessage = domainBuilder.topicMessage(t -> t.topicId(topicId)).block();
+        var payload = TopicMessageCodec.NOTIFY_REFERENCE_PREFIX + topicMessage.getConsensusTimestamp();
+        var filter = TopicMessageFilter.builder().startTime(0).topicId(topicId).build();
+
+        StepVerifier.create(topicListener.listen(filter))
+                .thenAwait(Duration.ofMillis(200L))
+                .then(() -> jdbcTemplate.queryForMap("select pg_notify('topic_message', ?)", payload))
+                .thenAwait(Duration.ofMillis(200L))
+                .expectNext(topicMessage)
+                .thenCancel()
+                .verify(WAIT);
+    }
+
+    @Test
+    void referenceNotYetVisible() {
+        long consensusTimestamp = DomainUtils.now();
+        var topicMessage = domainBuilder.topicMessage(t -> t.consensusTimestamp(consensusTimestamp).topicId(topicId));
+        var payload = TopicMessageCodec.NOTIFY_REFERENCE_PREFIX + consensusTimestamp;
+        var filter = TopicMessageFilter.builder().startTime(0).topicId(topicId).build();
+
+        StepVerifier.create(topicListener.listen(filter))
+                .thenAwait(Duration.ofMillis(200L))
+                .then(() -> jdbcTemplate.queryForMap("select pg_notify('topic_message', ?)", payload))
+                .thenAwait(Duration.ofMillis(150L))
+                .then(topicMessage::block)
+                .thenAwait(Duration.ofMillis(200L))
+                .expectNextMatches(t -> t.getConsensusTimestamp() == consensusTimestamp)
+                .thenCancel()
+                .verify(WAIT);
+    }
+
+    @Test
+    void referenceNotYetVisibleKeepsOrder() {
+        long consensusTimestamp = DomainUtils.now();
+        var topicMessage1 = domainBuilder.topicMessage(t -> t.consensusTimestamp(consensusTimestamp).topicId(topicId));
+        var topicMessage2 = domainBuilder.topicMessage(t -> t.topicId(topicId)).block();
+        var reference = TopicMessageCodec.NOTIFY_REFERENCE_PREFIX + consensusTimestamp;
+        var batch = TopicMessageCodec.NOTIFY_BATCH_PREFIX
+                + Base64.getEncoder().encodeToString(TopicMessageCodec.encode(List.of(topicMessage2)));
+        var filter = TopicMessageFilter.builder().startTime(0).topicId(topicId).build();
+
+        StepVerifier.create(topicListener.listen(filter))
+                .thenAwait(Duration.ofMillis(200L))
+                .then(() -> jdbcTemplate.queryForMap("select pg_notify('topic_message', ?)", reference))
+                .then(() -> jdbcTemplate.queryForMap("select pg_notify('topic_message', ?)", batch))
+                .thenAwait(Duration.ofMillis(150L))
+                .then(topicMessage1::block)
+                .thenAwait(Duration.ofMillis(200L))
+                .expectNextMatches(t -> t.getConsensusTimestamp() == consensusTimestamp)
+                .expectNext(topicMessage2)
+                .thenCancel()
+                .verify(WAIT);
+    }
+
     @Test
     void jsonError() {
         TopicMessageFilter filter = TopicMessageFilter.builder().startTime(0).build();
@@ -0,0 +1,59 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.grpc.listener;
+
+import static com.hedera.mirror.common.domain.topic.TopicMessageCodec.STREAM_FIELD;
+import static com.hedera.mirror.common.domain.topic.TopicMessageCodec.STREAM_KEY;
+
+import com.hedera.mirror.common.domain.topic.TopicMessage;
+import com.hedera.mirror.common.domain.topic.TopicMessageCodec;
+import jakarta.annotation.Resource;
+import java.util.Map;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveStreamOperations;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import reactor.core.publisher.Flux;
+
+@SuppressWarnings("java:S2187") // Ignore no tests in file warning
+class RedisStreamTopicListenerTest extends AbstractSharedTopicListenerTest {
+
+    @Resource
+    private ReactiveRedisConnectionFactory connectionFactory;
+
+    @Override
+    protected ListenerProperties.ListenerType getType() {
+        return ListenerProperties.ListenerType.REDIS_STREAM;
+    }
+
+    @Override
+    protected void publish(Flux<TopicMessage> publisher) {
+        var serializationContext = RedisSerializationContext.<String, byte[]>newSerializationContext(
+                        RedisSerializer.byteArray())
+                .key(RedisSerializer.string())
+                .hashKey(RedisSerializer.string())
+                .build();
+        ReactiveStreamOperations<String, String, byte[]> streamOperations =
+                new ReactiveRedisTemplate<>(connectionFactory, serializationContext).opsForStream();
+
+        publisher
+                .collectList()
+                .flatMap(t -> streamOperations.add(STREAM_KEY, Map.of(STREAM_FIELD, TopicMessageCodec.encode(t))))
+                .block();
+    }
+}
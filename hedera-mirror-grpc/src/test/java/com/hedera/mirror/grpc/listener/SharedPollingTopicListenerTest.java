@@ -16,11 +16,80 @@
 
 package com.hedera.mirror.grpc.listener;
 
-@SuppressWarnings("java:S2187") // Ignore no tests in file warning
+import com.hedera.mirror.common.domain.DomainBuilder;
+import com.hedera.mirror.common.domain.topic.TopicMessage;
+import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+import jakarta.annotation.Resource;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
 class SharedPollingTopicListenerTest extends AbstractSharedTopicListenerTest {
 
+    @Resource
+    private DomainBuilder commonDomainBuilder;
+
     @Override
     protected ListenerProperties.ListenerType getType() {
         return ListenerProperties.ListenerType.SHARED_POLL;
     }
+
+    @Test
+    void recordFileProbe() {
+        var adaptive = listenerProperties.getAdaptive();
+        adaptive.setEnabled(true);
+        adaptive.setMaxInterval(Duration.ofMillis(100L));
+        adaptive.setRecordFileProbe(true);
+        listenerProperties.setInterval(Duration.ofMillis(50L));
+
+        try {
+            var filter = TopicMessageFilter.builder().startTime(0).topicId(topicId).build();
+
+            // Messages are only queried once the record file they are committed with is seen
+            topicListener
+                    .listen(filter)
+                    .map(TopicMessage::getSequenceNumber)
+                    .as(StepVerifier::create)
+                    .thenAwait(Duration.ofMillis(250L))
+                    .then(() -> publish(domainBuilder.topicMessages(2, future)))
+                    .expectNoEvent(Duration.ofMillis(500L))
+                    .then(() -> commonDomainBuilder.recordFile().persist())
+                    .expectNext(1L, 2L)
+                    .thenCancel()
+                    .verify(Duration.ofSeconds(5L));
+        } finally {
+            adaptive.setEnabled(false);
+            adaptive.setRecordFileProbe(false);
+        }
+    }
+
+    @Test
+    void recordFileProbeSeenAfterPoll() {
+        var adaptive = listenerProperties.getAdaptive();
+        adaptive.setEnabled(true);
+        adaptive.setMaxInterval(Duration.ofMillis(100L));
+        adaptive.setRecordFileProbe(true);
+        listenerProperties.setInterval(Duration.ofMillis(50L));
+
+        try {
+            var filter = TopicMessageFilter.builder().startTime(0).topicId(topicId).build();
+
+            // Polls without messages still mark the record file as seen, so later messages wait for the next one
+            topicListener
+                    .listen(filter)
+                    .map(TopicMessage::getSequenceNumber)
+                    .as(StepVerifier::create)
+                    .then(() -> commonDomainBuilder.recordFile().persist())
+                    .thenAwait(Duration.ofMillis(250L))
+                    .then(() -> publish(domainBuilder.topicMessages(2, future)))
+                    .expectNoEvent(Duration.ofMillis(500L))
+                    .then(() -> commonDomainBuilder.recordFile().persist())
+                    .expectNext(1L, 2L)
+                    .thenCancel()
+                    .verify(Duration.ofSeconds(5L));
+        } finally {
+            adaptive.setEnabled(false);
+            adaptive.setRecordFileProbe(false);
+        }
+    }
 }
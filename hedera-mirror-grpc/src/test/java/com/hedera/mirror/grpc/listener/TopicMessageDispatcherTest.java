@@ -0,0 +1,160 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.grpc.listener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.topic.TopicMessage;
+import com.hedera.mirror.common.util.DomainUtils;
+import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+class TopicMessageDispatcherTest {
+
+    private static final EntityId TOPIC1 = EntityId.of(1001L);
+    private static final EntityId TOPIC2 = EntityId.of(1002L);
+    private static final Duration WAIT = Duration.ofSeconds(5L);
+
+    private final AtomicInteger sourceSubscriptions = new AtomicInteger();
+    private final ListenerProperties listenerProperties = new ListenerProperties();
+    private Sinks.Many<TopicMessage> source;
+    private TopicMessageDispatcher dispatcher;
+    private TopicMessageTail topicMessageTail;
+
+    @BeforeEach
+    void setup() {
+        source = Sinks.many().multicast().directBestEffort();
+        Flux<TopicMessage> topicMessages =
+                source.asFlux().doOnSubscribe(s -> sourceSubscriptions.incrementAndGet());
+        topicMessageTail = new TopicMessageTail(listenerProperties);
+        dispatcher = new TopicMessageDispatcher(topicMessages, listenerProperties, topicMessageTail);
+    }
+
+    @Test
+    void routesByTopic() {
+        var verifier1 = dispatcher
+                .listen(filter(TOPIC1))
+                .map(TopicMessage::getSequenceNumber)
+                .as(StepVerifier::create)
+                .expectNext(1L, 3L)
+                .thenCancel()
+                .verifyLater();
+        var verifier2 = dispatcher
+                .listen(filter(TOPIC2))
+                .map(TopicMessage::getSequenceNumber)
+                .as(StepVerifier::create)
+                .expectNext(2L)
+                .thenCancel()
+                .verifyLater();
+
+        assertThat(dispatcher.getSubscriberCount(TOPIC1)).isOne();
+        assertThat(dispatcher.getSubscriberCount(TOPIC2)).isOne();
+        source.tryEmitNext(topicMessage(TOPIC1, 1L));
+        source.tryEmitNext(topicMessage(TOPIC2, 2L));
+        source.tryEmitNext(topicMessage(TOPIC1, 3L));
+
+        verifier1.verify(WAIT);
+        verifier2.verify(WAIT);
+        assertThat(sourceSubscriptions).hasValue(1);
+        assertThat(dispatcher.getSubscriberCount(TOPIC1)).isZero();
+        assertThat(dispatcher.getSubscriberCount(TOPIC2)).isZero();
+        assertThat(source.currentSubscriberCount()).isZero();
+    }
+
+    @Test
+    void resubscribesAfterLastSubscriberLeaves() {
+        dispatcher.listen(filter(TOPIC1)).take(1).subscribe();
+        source.tryEmitNext(topicMessage(TOPIC1, 1L));
+        assertThat(source.currentSubscriberCount()).isZero();
+
+        StepVerifier.create(dispatcher.listen(filter(TOPIC1)).map(TopicMessage::getSequenceNumber))
+                .then(() -> source.tryEmitNext(topicMessage(TOPIC1, 2L)))
+                .expectNext(2L)
+                .thenCancel()
+                .verify(WAIT);
+
+        assertThat(sourceSubscriptions).hasValue(2);
+    }
+
+    @Test
+    void overflow() {
+        listenerProperties.setMaxBufferSize(16);
+        var slow = dispatcher.listen(filter(TOPIC1)).as(p -> StepVerifier.create(p, 0));
+        var fast = dispatcher
+                .listen(filter(TOPIC1))
+                .as(StepVerifier::create)
+                .expectNextCount(17)
+                .thenCancel()
+                .verifyLater();
+
+        slow.then(() -> {
+                    for (long i = 1; i <= 17; i++) {
+                        source.tryEmitNext(topicMessage(TOPIC1, i));
+                    }
+                })
+                .thenRequest(Long.MAX_VALUE)
+                .expectNextCount(16)
+                .expectErrorMatches(Exceptions::isOverflow)
+                .verify(WAIT);
+        fast.verify(WAIT);
+    }
+
+    @Test
+    void tail() {
+        listenerProperties.getTail().setEnabled(true);
+        var topicMessage = topicMessage(TOPIC1, 1L).toBuilder()
+                .consensusTimestamp(DomainUtils.now())
+                .build();
+        var filter = filter(TOPIC1).toBuilder()
+                .startTime(topicMessage.getConsensusTimestamp())
+                .build();
+        var subscription = dispatcher.listen(filter).subscribe();
+        source.tryEmitNext(topicMessage);
+        assertThat(topicMessageTail.find(filter, true)).containsExactly(topicMessage);
+
+        subscription.dispose();
+        assertThat(topicMessageTail.find(filter, true)).isNull();
+    }
+
+    @Test
+    void sourceError() {
+        StepVerifier.create(dispatcher.listen(filter(TOPIC1)))
+                .then(() -> source.tryEmitError(new IllegalStateException("error")))
+                .expectError(IllegalStateException.class)
+                .verify(WAIT);
+    }
+
+    private TopicMessageFilter filter(EntityId topicId) {
+        return TopicMessageFilter.builder().startTime(0).topicId(topicId).build();
+    }
+
+    private TopicMessage topicMessage(EntityId topicId, long sequenceNumber) {
+        return TopicMessage.builder()
+                .consensusTimestamp(sequenceNumber)
+                .sequenceNumber(sequenceNumber)
+                .topicId(topicId)
+                .build();
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.grpc.listener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.topic.TopicMessage;
+import com.hedera.mirror.common.util.DomainUtils;
+import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TopicMessageTailTest {
+
+    private static final EntityId TOPIC_ID = EntityId.of(100L);
+
+    private final ListenerProperties listenerProperties = new ListenerProperties();
+    private final TopicMessageTail topicMessageTail = new TopicMessageTail(listenerProperties);
+    private final long now = DomainUtils.now();
+
+    @BeforeEach
+    void setup() {
+        listenerProperties.getTail().setEnabled(true);
+    }
+
+    @Test
+    void disabled() {
+        listenerProperties.getTail().setEnabled(false);
+        topicMessageTail.onNext(topicMessage(1));
+        assertThat(topicMessageTail.find(filter(1).build(), true)).isNull();
+    }
+
+    @Test
+    void find() {
+        var topicMessage1 = topicMessage(1);
+        var topicMessage2 = topicMessage(2);
+        var topicMessage3 = topicMessage(3);
+        topicMessageTail.onNext(topicMessage1);
+        topicMessageTail.onNext(topicMessage2);
+        topicMessageTail.onNext(topicMessage2);
+        topicMessageTail.onNext(topicMessage3);
+
+        assertThat(topicMessageTail.find(filter(1).build(), true))
+                .containsExactly(topicMessage1, topicMessage2, topicMessage3);
+        assertThat(topicMessageTail.find(filter(2).build(), true)).containsExactly(topicMessage2, topicMessage3);
+        assertThat(topicMessageTail.find(filter(2).limit(1).build(), false)).containsExactly(topicMessage2);
+        assertThat(topicMessageTail.find(filter(1).endTime(now + 3).build(), false))
+                .containsExactly(topicMessage1, topicMessage2);
+        assertThat(topicMessageTail.find(filter(4).build(), true)).isEmpty();
+    }
+
+    @Test
+    void notCovered() {
+        topicMessageTail.onNext(topicMessage(2));
+        assertThat(topicMessageTail.find(filter(1).build(), true)).isNull();
+        assertThat(topicMessageTail.find(filter(2).build(), false)).isNull();
+        assertThat(topicMessageTail.find(filter(2).endTime(now + 10).build(), false)).isNull();
+        assertThat(topicMessageTail.find(filter(1).topicId(EntityId.of(101L)).build(), true)).isNull();
+    }
+
+    @Test
+    void gap() {
+        var topicMessage3 = topicMessage(3);
+        topicMessageTail.onNext(topicMessage(1));
+        topicMessageTail.onNext(topicMessage3);
+
+        assertThat(topicMessageTail.find(filter(1).build(), true)).isNull();
+        assertThat(topicMessageTail.find(filter(3).build(), true)).containsExactly(topicMessage3);
+    }
+
+    @Test
+    void evictByBytes() {
+        listenerProperties.getTail().setMaxBytes(1024);
+
+        for (int i = 1; i <= 4; i++) {
+            var topicMessage = topicMessage(i).toBuilder().message(new byte[300]).build();
+            topicMessageTail.onNext(topicMessage);
+        }
+
+        assertThat(topicMessageTail.find(filter(2).build(), true)).isNull();
+        assertThat(topicMessageTail.find(filter(3).build(), true)).hasSize(2);
+    }
+
+    @Test
+    void evictByTotalBytes() {
+        listenerProperties.getTail().setMaxTotalBytes(1024);
+        var tail = new TopicMessageTail(listenerProperties);
+        var topicIds = List.of(EntityId.of(101L), EntityId.of(102L), EntityId.of(103L));
+
+        for (var topicId : topicIds) {
+            tail.onNext(topicMessage(1).toBuilder().message(new byte[300]).topicId(topicId).build());
+        }
+
+        assertThat(topicIds)
+                .filteredOn(topicId -> tail.find(filter(1).topicId(topicId).build(), true) != null)
+                .hasSize(2);
+    }
+
+    @Test
+    void evictByAge() {
+        var topicMessage = topicMessage(1).toBuilder()
+                .consensusTimestamp(now - listenerProperties.getTail().getMaxAge().toNanos() - 1)
+                .build();
+        topicMessageTail.onNext(topicMessage);
+        assertThat(topicMessageTail.find(filter(1).startTime(topicMessage.getConsensusTimestamp()).build(), true))
+                .isNull();
+    }
+
+    @Test
+    void clear() {
+        topicMessageTail.onNext(topicMessage(1));
+        topicMessageTail.clear();
+        assertThat(topicMessageTail.find(filter(1).build(), true)).isNull();
+    }
+
+    private TopicMessageFilter.TopicMessageFilterBuilder filter(long sequenceNumber) {
+        return TopicMessageFilter.builder().startTime(now + sequenceNumber).topicId(TOPIC_ID);
+    }
+
+    private TopicMessage topicMessage(long sequenceNumber) {
+        return TopicMessage.builder()
+                .consensusTimestamp(now + sequenceNumber)
+                .message(new byte[] {1})
+                .runningHash(new byte[] {2})
+                .sequenceNumber(sequenceNumber)
+                .topicId(TOPIC_ID)
+                .build();
+    }
+}
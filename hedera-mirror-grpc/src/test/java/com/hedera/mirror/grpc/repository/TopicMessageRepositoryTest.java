@@ -124,6 +124,58 @@ class TopicMessageRepositoryTest extends GrpcIntegrationTest {
         assertThat(topicMessageRepository.findByFilter(filter)).containsExactly(topicMessage1);
     }
 
+    @Test
+    void streamByFilter() {
+        TopicMessage topicMessage1 = domainBuilder.topicMessage().block();
+        TopicMessage topicMessage2 = domainBuilder.topicMessage().block();
+        TopicMessage topicMessage3 = domainBuilder.topicMessage().block();
+        domainBuilder.topicMessage(t -> t.topicId(EntityId.of(2))).block();
+
+        TopicMessageFilter filter = TopicMessageFilter.builder()
+                .startTime(topicMessage1.getConsensusTimestamp())
+                .topicId(topicMessage1.getTopicId())
+                .build();
+
+        assertThat(topicMessageRepository.streamByFilter(filter).collectList().block())
+                .containsExactly(topicMessage1, topicMessage2, topicMessage3)
+                .containsExactlyElementsOf(topicMessageRepository.findByFilter(filter).toList());
+    }
+
+    @Test
+    void streamByFilterWithEndTimeAndLimit() {
+        TopicMessage topicMessage1 = domainBuilder.topicMessage().block();
+        TopicMessage topicMessage2 = domainBuilder.topicMessage().block();
+        TopicMessage topicMessage3 = domainBuilder.topicMessage().block();
+
+        TopicMessageFilter filter = TopicMessageFilter.builder()
+                .startTime(topicMessage1.getConsensusTimestamp())
+                .endTime(topicMessage3.getConsensusTimestamp())
+                .topicId(topicMessage1.getTopicId())
+                .build();
+
+        assertThat(topicMessageRepository.streamByFilter(filter).collectList().block())
+                .containsExactly(topicMessage1, topicMessage2);
+        assertThat(topicMessageRepository
+                        .streamByFilter(filter.toBuilder().limit(1).build())
+                        .collectList()
+                        .block())
+                .containsExactly(topicMessage1);
+    }
+
+    @Test
+    void streamByFilterCancel() {
+        TopicMessage topicMessage1 = domainBuilder.topicMessage().block();
+        domainBuilder.topicMessage().block();
+
+        TopicMessageFilter filter = TopicMessageFilter.builder()
+                .startTime(topicMessage1.getConsensusTimestamp())
+                .topicId(topicMessage1.getTopicId())
+                .build();
+
+        assertThat(topicMessageRepository.streamByFilter(filter).take(1).collectList().block())
+                .containsExactly(topicMessage1);
+    }
+
     @Test
     void findLatest() {
         TopicMessage topicMessage1 = domainBuilder.topicMessage().block();
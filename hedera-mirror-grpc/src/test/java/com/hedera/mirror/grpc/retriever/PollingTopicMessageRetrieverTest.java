@@ -81,6 +81,57 @@ class PollingTopicMessageRetrieverTest extends GrpcIntegrationTest {
         retrieverProperties.setEnabled(true);
     }
 
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void cursor(boolean throttle) {
+        int maxPageSize = overrideMaxPageSize(throttle, 2);
+        retrieverProperties.setCursor(true);
+        domainBuilder.topicMessages(3, now).blockLast();
+
+        TopicMessageFilter filter =
+                TopicMessageFilter.builder().startTime(0).topicId(TOPIC_ID).build();
+
+        StepVerifier.withVirtualTime(() ->
+                        pollingTopicMessageRetriever.retrieve(filter, throttle).map(TopicMessage::getSequenceNumber))
+                .thenAwait(WAIT)
+                .expectNext(1L, 2L, 3L)
+                .expectComplete()
+                .verify(WAIT);
+
+        retrieverProperties.setCursor(false);
+        restoreMaxPageSize(throttle, maxPageSize);
+    }
+
+    @Test
+    void cursorExpires() {
+        var cursorMaxDuration = retrieverProperties.getCursorMaxDuration();
+        var pollingFrequency = retrieverProperties.getPollingFrequency();
+        retrieverProperties.setCursor(true);
+        retrieverProperties.setCursorMaxDuration(Duration.ofMillis(100L));
+        retrieverProperties.setPollingFrequency(Duration.ofMillis(50L));
+        domainBuilder.topicMessages(3, now).blockLast();
+
+        TopicMessageFilter filter = TopicMessageFilter.builder()
+                .limit(3L)
+                .startTime(0)
+                .topicId(TOPIC_ID)
+                .build();
+
+        // The subscriber stalls the cursor past its max duration, so the rest come from a reopened cursor
+        StepVerifier.create(
+                        pollingTopicMessageRetriever.retrieve(filter, true).map(TopicMessage::getSequenceNumber), 1)
+                .expectNext(1L)
+                .thenAwait(Duration.ofMillis(500L))
+                .thenRequest(2)
+                .expectNext(2L, 3L)
+                .expectComplete()
+                .verify(WAIT);
+
+        retrieverProperties.setCursor(false);
+        retrieverProperties.setCursorMaxDuration(cursorMaxDuration);
+        retrieverProperties.setPollingFrequency(pollingFrequency);
+    }
+
     @ParameterizedTest
     @ValueSource(booleans = {true, false})
     void noMessages(boolean throttled) {
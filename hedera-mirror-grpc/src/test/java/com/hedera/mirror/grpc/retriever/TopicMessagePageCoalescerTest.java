@@ -0,0 +1,150 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.grpc.retriever;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.topic.TopicMessage;
+import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+import com.hedera.mirror.grpc.repository.TopicMessageRepository;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TopicMessagePageCoalescerTest {
+
+    private static final EntityId TOPIC_ID = EntityId.of(100L);
+
+    @Mock
+    private TopicMessageRepository topicMessageRepository;
+
+    private RetrieverProperties retrieverProperties;
+    private TopicMessagePageCoalescer pageCoalescer;
+
+    @BeforeEach
+    void setup() {
+        retrieverProperties = new RetrieverProperties();
+        retrieverProperties.setCoalesceWindow(Duration.ofMinutes(1L));
+        pageCoalescer = new TopicMessagePageCoalescer(retrieverProperties, topicMessageRepository);
+    }
+
+    @Test
+    void disabled() {
+        retrieverProperties.setCoalesceWindow(Duration.ZERO);
+        when(topicMessageRepository.findByFilter(any())).thenAnswer(i -> topicMessages(1, 3).stream());
+
+        assertThat(pageCoalescer.load(filter(1, 3))).hasSize(3);
+        assertThat(pageCoalescer.load(filter(1, 3))).hasSize(3);
+        verify(topicMessageRepository, times(2)).findByFilter(any());
+    }
+
+    @Test
+    void expired() {
+        retrieverProperties.setCoalesceWindow(Duration.ofNanos(1L));
+        when(topicMessageRepository.findByFilter(any())).thenAnswer(i -> topicMessages(1, 3).stream());
+
+        assertThat(pageCoalescer.load(filter(1, 5))).hasSize(3);
+        assertThat(pageCoalescer.load(filter(2, 5))).hasSize(3);
+        verify(topicMessageRepository, times(2)).findByFilter(any());
+    }
+
+    @Test
+    void sliceOfPartialPage() {
+        when(topicMessageRepository.findByFilter(any())).thenAnswer(i -> topicMessages(1, 3).stream());
+
+        assertThat(pageCoalescer.load(filter(1, 5))).extracting(TopicMessage::getSequenceNumber)
+                .containsExactly(1L, 2L, 3L);
+        assertThat(pageCoalescer.load(filter(2, 5))).extracting(TopicMessage::getSequenceNumber)
+                .containsExactly(2L, 3L);
+        assertThat(pageCoalescer.load(filter(4, 5))).isEmpty();
+        verify(topicMessageRepository, times(1)).findByFilter(any());
+    }
+
+    @Test
+    void sliceOfFullPage() {
+        when(topicMessageRepository.findByFilter(any())).thenAnswer(i -> topicMessages(1, 4).stream());
+
+        assertThat(pageCoalescer.load(filter(1, 4))).hasSize(4);
+        assertThat(pageCoalescer.load(filter(2, 2))).extracting(TopicMessage::getSequenceNumber)
+                .containsExactly(2L, 3L);
+        verify(topicMessageRepository, times(1)).findByFilter(any());
+    }
+
+    @Test
+    void fullPageDoesNotCover() {
+        when(topicMessageRepository.findByFilter(any()))
+                .thenAnswer(i -> topicMessages(1, 4).stream())
+                .thenAnswer(i -> topicMessages(3, 6).stream());
+
+        assertThat(pageCoalescer.load(filter(1, 4))).hasSize(4);
+        assertThat(pageCoalescer.load(filter(3, 4))).extracting(TopicMessage::getSequenceNumber)
+                .containsExactly(3L, 4L, 5L, 6L);
+        verify(topicMessageRepository, times(2)).findByFilter(any());
+    }
+
+    @Test
+    void startBeforePage() {
+        when(topicMessageRepository.findByFilter(any()))
+                .thenAnswer(i -> topicMessages(2, 3).stream())
+                .thenAnswer(i -> topicMessages(1, 3).stream());
+
+        assertThat(pageCoalescer.load(filter(2, 5))).hasSize(2);
+        assertThat(pageCoalescer.load(filter(1, 5))).hasSize(3);
+        verify(topicMessageRepository, times(2)).findByFilter(any());
+    }
+
+    @Test
+    void endTime() {
+        when(topicMessageRepository.findByFilter(any())).thenAnswer(i -> topicMessages(1, 3).stream());
+
+        assertThat(pageCoalescer.load(filter(1, 5))).hasSize(3);
+        var filter = filter(1, 5).toBuilder().endTime(3L).build();
+        assertThat(pageCoalescer.load(filter)).extracting(TopicMessage::getSequenceNumber)
+                .containsExactly(1L, 2L);
+        verify(topicMessageRepository, times(1)).findByFilter(any());
+    }
+
+    private TopicMessageFilter filter(long startTime, long limit) {
+        return TopicMessageFilter.builder()
+                .limit(limit)
+                .startTime(startTime)
+                .topicId(TOPIC_ID)
+                .build();
+    }
+
+    // Consensus timestamps are the same as the sequence numbers
+    private List<TopicMessage> topicMessages(long from, long to) {
+        return LongStream.rangeClosed(from, to)
+                .mapToObj(i -> TopicMessage.builder()
+                        .consensusTimestamp(i)
+                        .sequenceNumber(i)
+                        .topicId(TOPIC_ID)
+                        .build())
+                .toList();
+    }
+}
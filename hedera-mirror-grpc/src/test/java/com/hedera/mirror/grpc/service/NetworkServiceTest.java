@@ -60,15 +60,19 @@ class NetworkServiceTest extends GrpcIntegrationTest {
     private NetworkService networkService;
 
     private int pageSize;
+    private Duration snapshotRefresh;
 
     @BeforeEach
     void setup() {
         pageSize = addressBookProperties.getPageSize();
+        snapshotRefresh = addressBookProperties.getSnapshotRefresh();
     }
 
     @AfterEach
     void cleanup() {
         addressBookProperties.setPageSize(pageSize);
+        addressBookProperties.setSnapshot(false);
+        addressBookProperties.setSnapshotRefresh(snapshotRefresh);
     }
 
     @Test
@@ -234,6 +238,41 @@ class NetworkServiceTest extends GrpcIntegrationTest {
         assertThat(getNodes(filter)).containsExactly(addressBookEntry);
     }
 
+    @Test
+    void snapshot() {
+        addressBookProperties.setPageSize(2);
+        addressBookProperties.setSnapshot(true);
+        addressBookProperties.setSnapshotRefresh(Duration.ofMinutes(1L));
+        var addressBook = domainBuilder.addressBook().persist();
+        long timestamp = addressBook.getStartConsensusTimestamp();
+        var addressBookEntry1 = addressBookEntryAt(timestamp);
+        var addressBookEntry2 = addressBookEntryAt(timestamp);
+        var addressBookEntry3 = addressBookEntryAt(timestamp);
+        var filter = AddressBookFilter.builder().fileId(addressBook.getFileId()).build();
+        var limitFilter = AddressBookFilter.builder()
+                .fileId(addressBook.getFileId())
+                .limit(1)
+                .build();
+
+        var nodes = getNodes(filter);
+        assertThat(nodes).containsExactly(addressBookEntry1, addressBookEntry2, addressBookEntry3);
+        assertThat(getNodes(limitFilter)).containsExactly(addressBookEntry1);
+
+        // Served from memory until the refresh interval elapses
+        var newAddressBook = domainBuilder.addressBook().persist();
+        var newAddressBookEntry = addressBookEntryAt(newAddressBook.getStartConsensusTimestamp());
+        assertThat(getNodes(filter)).containsExactlyElementsOf(nodes).first().isSameAs(nodes.get(0));
+
+        // Reloaded when a newer address book is found
+        addressBookProperties.setSnapshotRefresh(Duration.ZERO);
+        assertThat(getNodes(filter)).containsExactly(newAddressBookEntry);
+
+        // Unchanged timestamps reuse the same snapshot
+        var refreshed = getNodes(filter);
+        assertThat(refreshed).containsExactly(newAddressBookEntry);
+        assertThat(getNodes(filter)).first().isSameAs(refreshed.get(0));
+    }
+
     private List<AddressBookEntry> getNodes(AddressBookFilter filter) {
         return networkService.getNodes(filter).collectList().block(Duration.ofMillis(1000L));
     }
@@ -252,6 +291,13 @@ class NetworkServiceTest extends GrpcIntegrationTest {
                 .persist();
     }
 
+    private AddressBookEntry addressBookEntryAt(long timestamp) {
+        return domainBuilder
+                .addressBookEntry()
+                .customize(a -> a.consensusTimestamp(timestamp))
+                .persist();
+    }
+
     private AddressBookEntry addressBookEntry(long stake) {
         return domainBuilder
                 .addressBookEntry()
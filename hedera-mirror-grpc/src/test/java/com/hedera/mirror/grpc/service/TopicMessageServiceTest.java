@@ -17,6 +17,7 @@
 package com.hedera.mirror.grpc.service;
 
 import static com.hedera.mirror.common.util.DomainUtils.NANOS_PER_SECOND;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.hedera.mirror.common.domain.entity.Entity;
@@ -39,6 +40,8 @@ import jakarta.annotation.Resource;
 import jakarta.validation.ConstraintViolationException;
 import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -46,6 +49,7 @@ import org.mockito.ArgumentMatchers;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 
 class TopicMessageServiceTest extends GrpcIntegrationTest {
@@ -455,7 +459,8 @@ class TopicMessageServiceTest extends GrpcIntegrationTest {
                 topicListener,
                 entityRepository,
                 topicMessageRetriever,
-                new SimpleMeterRegistry());
+                new SimpleMeterRegistry(),
+                Schedulers.immediate());
 
         TopicMessageFilter retrieverFilter =
                 TopicMessageFilter.builder().startTime(0).topicId(topicId).build();
@@ -477,6 +482,43 @@ class TopicMessageServiceTest extends GrpcIntegrationTest {
                 .verify(WAIT);
     }
 
+    @Test
+    void blockingScheduler() {
+        TopicListener topicListener = Mockito.mock(TopicListener.class);
+        EntityRepository entityRepository = Mockito.mock(EntityRepository.class);
+        TopicMessageRetriever topicMessageRetriever = Mockito.mock(TopicMessageRetriever.class);
+        var threadFactory = Thread.ofVirtual().name("test-", 0).factory();
+        var scheduler = Schedulers.fromExecutorService(Executors.newThreadPerTaskExecutor(threadFactory));
+        var virtual = new AtomicBoolean(false);
+        topicMessageService = new TopicMessageServiceImpl(
+                new GrpcProperties(),
+                topicListener,
+                entityRepository,
+                topicMessageRetriever,
+                new SimpleMeterRegistry(),
+                scheduler);
+
+        TopicMessageFilter filter =
+                TopicMessageFilter.builder().startTime(0).topicId(topicId).build();
+
+        Mockito.when(entityRepository.findById(filter.getTopicId().getId())).thenAnswer(i -> {
+            virtual.set(Thread.currentThread().isVirtual());
+            return optionalEntity();
+        });
+        Mockito.when(topicMessageRetriever.retrieve(
+                        ArgumentMatchers.isA(TopicMessageFilter.class), ArgumentMatchers.eq(true)))
+                .thenReturn(Flux.just(topicMessage(1, 0)));
+        Mockito.when(topicListener.listen(ArgumentMatchers.any())).thenReturn(Flux.empty());
+
+        StepVerifier.create(topicMessageService.subscribeTopic(filter).map(TopicMessage::getSequenceNumber))
+                .expectNext(1L)
+                .expectComplete()
+                .verify(WAIT);
+
+        assertThat(virtual).isTrue();
+        scheduler.dispose();
+    }
+
     @Test
     void missingMessages() {
         TopicListener topicListener = Mockito.mock(TopicListener.class);
@@ -487,7 +529,8 @@ class TopicMessageServiceTest extends GrpcIntegrationTest {
                 topicListener,
                 entityRepository,
                 topicMessageRetriever,
-                new SimpleMeterRegistry());
+                new SimpleMeterRegistry(),
+                Schedulers.immediate());
 
         TopicMessageFilter filter =
                 TopicMessageFilter.builder().startTime(0).topicId(topicId).build();
@@ -568,7 +611,8 @@ class TopicMessageServiceTest extends GrpcIntegrationTest {
                 topicListener,
                 entityRepository,
                 topicMessageRetriever,
-                new SimpleMeterRegistry());
+                new SimpleMeterRegistry(),
+                Schedulers.immediate());
 
         TopicMessageFilter retrieverFilter =
                 TopicMessageFilter.builder().startTime(0).topicId(topicId).build();
@@ -619,7 +663,8 @@ class TopicMessageServiceTest extends GrpcIntegrationTest {
                 topicListener,
                 entityRepository,
                 topicMessageRetriever,
-                new SimpleMeterRegistry());
+                new SimpleMeterRegistry(),
+                Schedulers.immediate());
 
         // historic messages
         TopicMessage retrieved1 = topicMessage(1);
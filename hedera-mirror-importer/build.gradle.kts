@@ -16,7 +16,10 @@
 
 description = "Hedera Mirror Node Importer"
 
-plugins { id("spring-conventions") }
+plugins {
+    id("me.champeau.jmh")
+    id("spring-conventions")
+}
 
 dependencies {
     implementation(platform("com.google.cloud:spring-cloud-gcp-dependencies"))
@@ -68,3 +71,9 @@ dependencies {
     testImplementation("org.springframework.boot:spring-boot-testcontainers")
     testImplementation("org.testcontainers:postgresql")
 }
+
+jmh {
+    includeTests = true // Benchmarks reuse the test domain builders
+    jmhVersion = "1.37"
+    providers.gradleProperty("jmh.includes").orNull?.let { includes.add(it) }
+}
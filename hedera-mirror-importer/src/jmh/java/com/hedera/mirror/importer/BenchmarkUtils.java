@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer;
+
+import com.google.common.primitives.Bytes;
+import com.google.common.primitives.Ints;
+import com.hedera.mirror.common.domain.transaction.RecordItem;
+import com.hedera.mirror.common.domain.transaction.TransactionType;
+import com.hedera.mirror.importer.parser.domain.RecordItemBuilder;
+import com.hedera.mirror.importer.reader.record.ProtoRecordFileReader;
+import com.hedera.services.stream.proto.HashAlgorithm;
+import com.hedera.services.stream.proto.HashObject;
+import com.hedera.services.stream.proto.RecordStreamFile;
+import com.hedera.services.stream.proto.RecordStreamItem;
+import com.hederahashgraph.api.proto.java.SemanticVersion;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.SneakyThrows;
+import lombok.experimental.UtilityClass;
+import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
+
+/**
+ * Generates synthetic record items and record files for the benchmarks using the test {@link RecordItemBuilder}.
+ */
+@UtilityClass
+public class BenchmarkUtils {
+
+    /**
+     * A typical mainnet mix of transaction types
+     */
+    public static final List<TransactionType> TRANSACTION_TYPES = List.of(
+            TransactionType.CRYPTOTRANSFER,
+            TransactionType.CRYPTOTRANSFER,
+            TransactionType.CONSENSUSSUBMITMESSAGE,
+            TransactionType.CONSENSUSSUBMITMESSAGE,
+            TransactionType.CONTRACTCALL,
+            TransactionType.ETHEREUMTRANSACTION,
+            TransactionType.TOKENMINT,
+            TransactionType.CRYPTOCREATEACCOUNT);
+
+    public static List<RecordItem> recordItems(RecordItemBuilder recordItemBuilder, int count) {
+        return recordItems(recordItemBuilder, TRANSACTION_TYPES, count);
+    }
+
+    public static List<RecordItem> recordItems(
+            RecordItemBuilder recordItemBuilder, List<TransactionType> transactionTypes, int count) {
+        var recordItems = new ArrayList<RecordItem>(count);
+
+        for (int i = 0; i < count; i++) {
+            var transactionType = transactionTypes.get(i % transactionTypes.size());
+            recordItems.add(recordItemBuilder.lookup(transactionType).get().build());
+        }
+
+        return recordItems;
+    }
+
+    /**
+     * Serializes the record items into a gzipped v6 record file
+     *
+     * @param recordItems the record items
+     * @return the compressed record file bytes
+     */
+    @SneakyThrows
+    public static byte[] recordFile(List<RecordItem> recordItems) {
+        var hashObject = HashObject.newBuilder()
+                .setAlgorithm(HashAlgorithm.SHA_384)
+                .setHash(new RecordItemBuilder().bytes(48))
+                .setLength(48);
+        var recordStreamFile = RecordStreamFile.newBuilder()
+                .setBlockNumber(1L)
+                .setEndObjectRunningHash(hashObject)
+                .setHapiProtoVersion(SemanticVersion.newBuilder().setMajor(0).setMinor(46))
+                .setStartObjectRunningHash(hashObject);
+
+        for (var recordItem : recordItems) {
+            recordStreamFile.addRecordStreamItems(RecordStreamItem.newBuilder()
+                    .setRecord(recordItem.getTransactionRecord())
+                    .setTransaction(recordItem.getTransaction()));
+        }
+
+        var bytes = Bytes.concat(
+                Ints.toByteArray(ProtoRecordFileReader.VERSION),
+                recordStreamFile.build().toByteArray());
+
+        try (var byteArrayOutputStream = new ByteArrayOutputStream();
+                var compressorOutputStream = new GzipCompressorOutputStream(byteArrayOutputStream)) {
+            compressorOutputStream.write(bytes);
+            compressorOutputStream.finish();
+            return byteArrayOutputStream.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.batch;
+
+import com.hedera.mirror.common.domain.DomainBuilder;
+import com.hedera.mirror.importer.parser.CommonParserProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.apache.commons.io.output.NullOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the CSV serialization of the batch inserter without the database round trip.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 5)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5)
+public class BatchInserterBenchmark {
+
+    private static final int COUNT = 10000;
+
+    @Param({"contractLog", "cryptoTransfer", "topicMessage", "transaction"})
+    private String domain;
+
+    private BatchInserter batchInserter;
+    private List<Object> items;
+
+    @Setup
+    public void setup() {
+        var domainBuilder = new DomainBuilder();
+        Supplier<Object> supplier =
+                switch (domain) {
+                    case "contractLog" -> () -> domainBuilder.contractLog().get();
+                    case "cryptoTransfer" -> () -> domainBuilder.cryptoTransfer().get();
+                    case "topicMessage" -> () -> domainBuilder.topicMessage().get();
+                    case "transaction" -> () -> domainBuilder.transaction().get();
+                    default -> throw new IllegalArgumentException("Unsupported domain " + domain);
+                };
+
+        items = new ArrayList<>(COUNT);
+        for (int i = 0; i < COUNT; i++) {
+            items.add(supplier.get());
+        }
+
+        var domainClass = items.get(0).getClass();
+        batchInserter =
+                new BatchInserter(domainClass, null, new SimpleMeterRegistry(), new CommonParserProperties());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public void write() throws IOException {
+        batchInserter.write(items, NullOutputStream.INSTANCE);
+    }
+}
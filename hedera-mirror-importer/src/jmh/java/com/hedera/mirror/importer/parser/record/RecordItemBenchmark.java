@@ -0,0 +1,78 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record;
+
+import com.hedera.mirror.common.domain.transaction.RecordItem;
+import com.hedera.mirror.common.domain.transaction.TransactionType;
+import com.hedera.mirror.importer.BenchmarkUtils;
+import com.hedera.mirror.importer.parser.domain.RecordItemBuilder;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.util.Version;
+
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 5)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5)
+public class RecordItemBenchmark {
+
+    private static final int COUNT = 1000;
+    private static final Version HAPI_VERSION = new Version(0, 46, 0);
+
+    @Param({"CONSENSUSSUBMITMESSAGE", "CONTRACTCALL", "CRYPTOTRANSFER", "ETHEREUMTRANSACTION", "TOKENMINT"})
+    private TransactionType transactionType;
+
+    private List<RecordItem> recordItems;
+
+    @Setup
+    public void setup() {
+        recordItems = BenchmarkUtils.recordItems(new RecordItemBuilder(), List.of(transactionType), COUNT);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public void build(Blackhole blackhole) {
+        RecordItem previous = null;
+
+        for (int i = 0; i < COUNT; i++) {
+            var recordItem = recordItems.get(i);
+            previous = RecordItem.builder()
+                    .hapiVersion(HAPI_VERSION)
+                    .previous(previous)
+                    .transaction(recordItem.getTransaction())
+                    .transactionIndex(i)
+                    .transactionRecord(recordItem.getTransactionRecord())
+                    .build();
+            blackhole.consume(previous);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record.entity;
+
+import com.hedera.mirror.common.domain.transaction.RecordItem;
+import com.hedera.mirror.common.domain.transaction.TransactionType;
+import com.hedera.mirror.importer.BenchmarkUtils;
+import com.hedera.mirror.importer.ImporterIntegrationTest;
+import com.hedera.mirror.importer.parser.domain.RecordItemBuilder;
+import jakarta.annotation.Resource;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.context.TestContextManager;
+
+/**
+ * Measures the record item listener with the same Spring context and database containers as the integration tests. The
+ * parsed domain objects are discarded after every invocation instead of being persisted.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 10)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 10)
+public class EntityRecordItemListenerBenchmark extends ImporterIntegrationTest {
+
+    private static final int COUNT = 1000;
+
+    @Resource
+    private EntityRecordItemListener entityRecordItemListener;
+
+    @Param({
+        "CONSENSUSSUBMITMESSAGE",
+        "CONTRACTCALL",
+        "CRYPTOCREATEACCOUNT",
+        "CRYPTOTRANSFER",
+        "ETHEREUMTRANSACTION",
+        "TOKENMINT"
+    })
+    private TransactionType transactionType;
+
+    private List<RecordItem> recordItems;
+
+    @Setup
+    public void setup() throws Exception {
+        new TestContextManager(EntityRecordItemListenerBenchmark.class).prepareTestInstance(this);
+        recordItems = BenchmarkUtils.recordItems(new RecordItemBuilder(), List.of(transactionType), COUNT);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public void onItem() {
+        for (var recordItem : recordItems) {
+            entityRecordItemListener.onItem(recordItem);
+        }
+
+        parserContext.clear();
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record.entity;
+
+import com.hedera.mirror.common.domain.DomainBuilder;
+import com.hedera.mirror.common.domain.entity.Entity;
+import com.hedera.mirror.common.domain.transaction.CryptoTransfer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 5)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5)
+public class ParserContextBenchmark {
+
+    private static final int COUNT = 10000;
+
+    private final DomainBuilder domainBuilder = new DomainBuilder();
+    private final ParserContext parserContext = new ParserContext();
+
+    // The percentage of merges that update an entity merged earlier in the same invocation
+    @Param({"0", "50", "90"})
+    private int updatePercent;
+
+    private List<CryptoTransfer> cryptoTransfers;
+    private List<Entity> entities;
+
+    @Setup
+    public void setup() {
+        int distinct = Math.max(1, COUNT * (100 - updatePercent) / 100);
+        var ids = new ArrayList<Long>(distinct);
+        for (int i = 0; i < distinct; i++) {
+            ids.add(domainBuilder.id());
+        }
+
+        cryptoTransfers = new ArrayList<>(COUNT);
+        entities = new ArrayList<>(COUNT);
+
+        for (int i = 0; i < COUNT; i++) {
+            long id = ids.get(i % distinct);
+            cryptoTransfers.add(domainBuilder.cryptoTransfer().get());
+            entities.add(domainBuilder.entity(id, domainBuilder.timestamp()).get());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public void add(Blackhole blackhole) {
+        for (var cryptoTransfer : cryptoTransfers) {
+            parserContext.add(cryptoTransfer);
+        }
+
+        blackhole.consume(parserContext.get(CryptoTransfer.class).size());
+        parserContext.clear();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public void merge(Blackhole blackhole) {
+        for (var entity : entities) {
+            parserContext.merge(entity.getId(), entity, ParserContextBenchmark::mergeEntity);
+        }
+
+        blackhole.consume(parserContext.get(Entity.class).size());
+        parserContext.clear();
+    }
+
+    private static Entity mergeEntity(Entity previous, Entity current) {
+        previous.setTimestampRange(current.getTimestampRange());
+        return previous;
+    }
+}
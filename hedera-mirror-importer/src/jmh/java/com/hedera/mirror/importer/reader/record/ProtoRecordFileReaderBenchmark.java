@@ -0,0 +1,64 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.reader.record;
+
+import com.hedera.mirror.importer.BenchmarkUtils;
+import com.hedera.mirror.importer.domain.StreamFileData;
+import com.hedera.mirror.importer.parser.domain.RecordItemBuilder;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 5)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5)
+public class ProtoRecordFileReaderBenchmark {
+
+    private static final String FILENAME = "2022-06-21T09_15_38.325469003Z.rcd.gz";
+
+    private final ProtoRecordFileReader recordFileReader = new ProtoRecordFileReader();
+
+    @Param({"1000", "10000"})
+    private int transactions;
+
+    private byte[] bytes;
+
+    @Setup
+    public void setup() {
+        var recordItems = BenchmarkUtils.recordItems(new RecordItemBuilder(), transactions);
+        bytes = BenchmarkUtils.recordFile(recordItems);
+    }
+
+    @Benchmark
+    public void read(Blackhole blackhole) {
+        var recordFile = recordFileReader.read(StreamFileData.from(FILENAME, bytes));
+        recordFile.getItems().doOnNext(blackhole::consume).blockLast();
+    }
+}
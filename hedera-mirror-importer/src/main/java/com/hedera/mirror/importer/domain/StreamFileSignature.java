@@ -95,6 +95,7 @@ public class StreamFileSignature implements Comparable<StreamFileSignature> {
         VERIFIED, // Signature has been verified against the node's public key
         CONSENSUS_REACHED, // Signature verification consensus reached by a node count greater than the consensusRatio
         NOT_FOUND, // Signature for given node was not found for download
+        SKIPPED, // Signature verification was skipped since consensus was already reached without it
     }
 
     @Getter
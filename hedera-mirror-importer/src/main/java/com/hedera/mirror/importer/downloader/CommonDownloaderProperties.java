@@ -71,6 +71,8 @@ public class CommonDownloaderProperties {
 
     private String gcpProjectId;
 
+    private boolean listPrefetch = false;
+
     @DurationMin(seconds = 1)
     @NotNull
     private Duration pathRefreshInterval = Duration.ofSeconds(10L);
@@ -78,6 +80,9 @@ public class CommonDownloaderProperties {
     @NotNull
     private PathType pathType = PathType.ACCOUNT_ID;
 
+    @Min(0)
+    private int prefetch = 0;
+
     private String region = "us-east-1";
 
     private String secretKey;
@@ -89,6 +94,9 @@ public class CommonDownloaderProperties {
     @NotNull
     private Duration timeout = Duration.ofSeconds(30L);
 
+    @Min(0)
+    private int verificationParallelism = 0;
+
     @PostConstruct
     public void init() {
         if (StringUtils.isBlank(bucketName)
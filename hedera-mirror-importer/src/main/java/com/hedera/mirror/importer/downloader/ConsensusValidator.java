@@ -17,8 +17,12 @@
 package com.hedera.mirror.importer.downloader;
 
 import com.hedera.mirror.importer.domain.StreamFileSignature;
+import java.math.BigDecimal;
 import java.util.Collection;
 
 public interface ConsensusValidator {
+
+    BigDecimal getStakeRequiredForConsensus(long totalStake);
+
     void validate(Collection<StreamFileSignature> signatures);
 }
@@ -35,6 +35,17 @@ public class ConsensusValidatorImpl implements ConsensusValidator {
 
     private final CommonDownloaderProperties commonDownloaderProperties;
 
+    @Override
+    public BigDecimal getStakeRequiredForConsensus(long totalStake) {
+        if (totalStake == 0) {
+            throw new SignatureVerificationException("Invalid total staking weight. Consensus not " + "reached");
+        }
+
+        return BigDecimal.valueOf(totalStake)
+                .multiply(commonDownloaderProperties.getConsensusRatio())
+                .setScale(0, RoundingMode.CEILING);
+    }
+
     /**
      * Validates that the signature files satisfy the consensus requirement:
      * <ol>
@@ -102,14 +113,4 @@ public class ConsensusValidatorImpl implements ConsensusValidator {
     private boolean canReachConsensus(long stake, BigDecimal stakeRequiredForConsensus) {
         return BigDecimal.valueOf(stake).compareTo(stakeRequiredForConsensus) >= 0;
     }
-
-    private BigDecimal getStakeRequiredForConsensus(long totalStake) {
-        if (totalStake == 0) {
-            throw new SignatureVerificationException("Invalid total staking weight. Consensus not " + "reached");
-        }
-
-        return BigDecimal.valueOf(totalStake)
-                .multiply(commonDownloaderProperties.getConsensusRatio())
-                .setScale(0, RoundingMode.CEILING);
-    }
 }
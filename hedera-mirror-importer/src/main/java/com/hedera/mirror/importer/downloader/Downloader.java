@@ -49,15 +49,18 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
@@ -66,6 +69,7 @@ import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
 public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem> {
@@ -103,7 +107,7 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
 
     // Metrics
     private final MeterRegistry meterRegistry;
-    private final Map<Long, Counter> nodeSignatureStatusMetricMap = new ConcurrentHashMap<>();
+    private final Map<StatusMetricKey, Counter> nodeSignatureStatusMetricMap = new ConcurrentHashMap<>();
     private final Timer cloudStorageLatencyMetric;
     private final Timer downloadLatencyMetric;
     private final Timer streamCloseMetric;
@@ -283,6 +287,9 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
      * file. (3) compare the hash of data file with Hash which has been agreed on by valid signatures, if match, move
      * the data file into `valid` directory; else download the data file from other valid node folder and compare the
      * hash until we find a match.
+     * <p>
+     * If prefetch is enabled, steps (1) and (2) for the next groups are done concurrently ahead of the current group
+     * while step (3) and the hand off to the parser are still done strictly in order.
      *
      * @param sigFilesMap signature files grouped by filename
      */
@@ -291,57 +298,146 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
         var nodeIds = consensusNodeService.getNodes().stream()
                 .map(ConsensusNode::getNodeId)
                 .collect(Collectors.toSet());
+        var sigFilenames = List.copyOf(sigFilesMap.keySet());
+        var prefetched = new ArrayDeque<CompletableFuture<PrefetchedStreamFile<T>>>();
+        int prefetch = downloaderProperties.getCommon().getPrefetch();
+        int nextPrefetchIndex = 0;
 
-        for (var sigFilenameIter = sigFilesMap.keySet().iterator(); sigFilenameIter.hasNext(); ) {
-            if (ShutdownHelper.isStopping()) {
-                return;
-            }
+        try {
+            for (int index = 0; index < sigFilenames.size(); index++) {
+                if (ShutdownHelper.isStopping()) {
+                    return;
+                }
 
-            Instant startTime = Instant.now();
-            var sigFilename = sigFilenameIter.next();
-            var signatures = sigFilesMap.get(sigFilename);
+                Instant startTime = Instant.now();
+                var sigFilename = sigFilenames.get(index);
+                var signatures = sigFilesMap.get(sigFilename);
+                PrefetchedStreamFile<T> prefetchedStreamFile = null;
 
-            try {
-                nodeSignatureVerifier.verify(signatures);
-
-                var consensusCount = signatures.stream()
-                        .filter(s -> s.getStatus() == StreamFileSignature.SignatureStatus.CONSENSUS_REACHED)
-                        .count();
-
-                if (consensusCount == nodeIds.size()) {
-                    log.debug("Verified signature file {} reached consensus", sigFilename);
-                } else if (consensusCount > 0) {
-                    log.warn(
-                            "Verified signature file {} reached consensus but with some errors: {}",
-                            sigFilename,
-                            statusMap(signatures, nodeIds));
+                if (prefetch > 0) {
+                    while (nextPrefetchIndex <= index + prefetch && nextPrefetchIndex < sigFilenames.size()) {
+                        var nextSignatures = sigFilesMap.get(sigFilenames.get(nextPrefetchIndex++));
+                        prefetched.add(Mono.fromCallable(() -> prefetch(nextSignatures))
+                                .subscribeOn(Schedulers.boundedElastic())
+                                .toFuture());
+                    }
+
+                    prefetchedStreamFile = prefetched.remove().join();
                 }
-            } catch (SignatureVerificationException ex) {
-                var statusMapMessage = statusMap(signatures, nodeIds);
-                if (sigFilenameIter.hasNext()) {
-                    log.warn("{}. Trying next group: {}", ex.getMessage(), statusMapMessage);
-                    continue;
+
+                try {
+                    if (prefetchedStreamFile == null) {
+                        nodeSignatureVerifier.verify(signatures);
+                    } else if (prefetchedStreamFile.exception() != null) {
+                        throw prefetchedStreamFile.exception();
+                    }
+
+                    var consensusCount = count(signatures, SignatureStatus.CONSENSUS_REACHED);
+                    var skippedCount = count(signatures, SignatureStatus.SKIPPED);
+
+                    if (consensusCount == nodeIds.size()) {
+                        log.debug("Verified signature file {} reached consensus", sigFilename);
+                    } else if (consensusCount + skippedCount == nodeIds.size()) {
+                        log.debug(
+                                "Verified signature file {} reached consensus with {} signatures skipped",
+                                sigFilename,
+                                skippedCount);
+                    } else if (consensusCount > 0) {
+                        log.warn(
+                                "Verified signature file {} reached consensus but with some errors: {}",
+                                sigFilename,
+                                statusMap(signatures, nodeIds));
+                    }
+                } catch (SignatureVerificationException ex) {
+                    var statusMapMessage = statusMap(signatures, nodeIds);
+                    if (index < sigFilenames.size() - 1) {
+                        log.warn("{}. Trying next group: {}", ex.getMessage(), statusMapMessage);
+                        continue;
+                    }
+
+                    throw new SignatureVerificationException(ex.getMessage() + ": " + statusMapMessage);
                 }
 
-                throw new SignatureVerificationException(ex.getMessage() + ": " + statusMapMessage);
+                boolean valid = verifySignatures(signatures, prefetchedStreamFile);
+                if (!valid) {
+                    log.error("None of the data files could be verified, signatures: {}", signatures);
+                }
+
+                streamVerificationMetric
+                        .tag("success", String.valueOf(valid))
+                        .register(meterRegistry)
+                        .record(Duration.between(startTime, Instant.now()));
             }
+        } finally {
+            prefetched.forEach(f -> f.cancel(true));
+            onBatchEnd();
+        }
+    }
+
+    /**
+     * Verifies the signatures of a group of signature files and downloads and reads the data file from the first node
+     * that reached consensus. Verifying the data file against the hash chain is left to the caller since it depends on
+     * the previous stream file. Any error while downloading or reading the data file is ignored so the caller can
+     * retry it and handle the error in order.
+     *
+     * @param signatures signature files with the same filename
+     * @return the prefetched stream file, if any
+     */
+    private PrefetchedStreamFile<T> prefetch(Collection<StreamFileSignature> signatures) {
+        try {
+            nodeSignatureVerifier.verify(signatures);
+        } catch (SignatureVerificationException e) {
+            return new PrefetchedStreamFile<>(e, null, null, null);
+        }
 
-            boolean valid = verifySignatures(signatures);
-            if (!valid) {
-                log.error("None of the data files could be verified, signatures: {}", signatures);
+        var signature = signatures.stream()
+                .filter(s -> s.getStatus() == StreamFileSignature.SignatureStatus.CONSENSUS_REACHED)
+                .findFirst()
+                .orElse(null);
+
+        if (signature != null) {
+            try {
+                var streamFileData = Objects.requireNonNull(streamFileProvider
+                        .get(signature.getNode(), signature.getDataFilename())
+                        .block());
+                T streamFile = streamFileReader.read(streamFileData);
+                onRead(streamFileData, streamFile, signature.getNode());
+                return new PrefetchedStreamFile<>(null, signature, streamFileData, streamFile);
+            } catch (Exception e) {
+                log.debug("Unable to prefetch data file for {}: {}", signature, e.getMessage());
             }
+        }
+
+        return new PrefetchedStreamFile<>(null, null, null, null);
+    }
 
-            streamVerificationMetric
-                    .tag("success", String.valueOf(valid))
-                    .register(meterRegistry)
-                    .record(Duration.between(startTime, Instant.now()));
+    private boolean verifySignatures(
+            Collection<StreamFileSignature> signatures, PrefetchedStreamFile<T> prefetchedStreamFile) {
+        var skipped = signatures.stream()
+                .filter(s -> s.getStatus() == StreamFileSignature.SignatureStatus.SKIPPED)
+                .toList();
+
+        if (verifyDataFiles(signatures, signatures, prefetchedStreamFile)) {
+            return true;
         }
+
+        if (skipped.isEmpty()) {
+            return false;
+        }
+
+        // The signatures skipped once consensus was reached are only verified when needed as a fallback
+        log.info("Verifying {} skipped signatures to retry their data files", skipped.size());
+        nodeSignatureVerifier.verifySkipped(signatures);
+        return verifyDataFiles(signatures, skipped, null);
     }
 
-    private boolean verifySignatures(Collection<StreamFileSignature> signatures) {
+    private boolean verifyDataFiles(
+            Collection<StreamFileSignature> signatures,
+            Collection<StreamFileSignature> candidates,
+            PrefetchedStreamFile<T> prefetchedStreamFile) {
         Instant endDate = importerProperties.getEndDate();
 
-        for (var signature : signatures) {
+        for (var signature : candidates) {
             // Ignore signatures that didn't validate or weren't in the majority
             if (signature.getStatus() != StreamFileSignature.SignatureStatus.CONSENSUS_REACHED) {
                 continue;
@@ -352,9 +448,19 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
             try {
                 var dataFilename = signature.getDataFilename();
                 var node = signature.getNode();
-                var streamFileData = Objects.requireNonNull(
-                        streamFileProvider.get(node, dataFilename).block());
-                T streamFile = streamFileReader.read(streamFileData);
+                StreamFileData streamFileData;
+                T streamFile;
+
+                if (prefetchedStreamFile != null && prefetchedStreamFile.signature() == signature) {
+                    streamFileData = prefetchedStreamFile.streamFileData();
+                    streamFile = prefetchedStreamFile.streamFile();
+                } else {
+                    streamFileData = Objects.requireNonNull(
+                            streamFileProvider.get(node, dataFilename).block());
+                    streamFile = streamFileReader.read(streamFileData);
+                    onRead(streamFileData, streamFile, node);
+                }
+
                 streamFile.setNodeId(nodeId);
 
                 verify(streamFile, signature);
@@ -400,6 +506,19 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
         return false;
     }
 
+    /**
+     * Invoked after a data file is downloaded and read but before it is verified, possibly ahead of the files before it
+     * when prefetching. The stream file may still be rejected, so only work that can be safely discarded belongs here.
+     */
+    @SuppressWarnings("java:S1172") // Unused parameters required by subclass implementations
+    protected void onRead(StreamFileData streamFileData, T streamFile, ConsensusNode node) {}
+
+    /**
+     * Invoked after a batch of stream files is done, whether it completed, failed or stopped early, so that work
+     * started by {@link #onRead} for files that were never verified can be discarded.
+     */
+    protected void onBatchEnd() {}
+
     @SuppressWarnings({"unchecked", "java:S1172"}) // Unused Parameter (node) required by subclass implementations
     protected void onVerified(StreamFileData streamFileData, T streamFile, ConsensusNode node) {
         setStreamFileIndex(streamFile);
@@ -487,12 +606,13 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
         for (var entry : statusMap.entrySet()) {
             entry.getValue().forEach(nodeId -> {
                 Counter counter = nodeSignatureStatusMetricMap.computeIfAbsent(
-                        nodeId, n -> newStatusMetric(nodeId, signatureStreamType, entry.getKey()));
+                        new StatusMetricKey(nodeId, entry.getKey()),
+                        k -> newStatusMetric(nodeId, signatureStreamType, entry.getKey()));
                 counter.increment();
             });
         }
 
-        // remove CONSENSUS_REACHED for logging purposes
+        // remove CONSENSUS_REACHED for logging purposes, SKIPPED is kept to tell unverified nodes apart from errors
         statusMap.remove(SignatureStatus.CONSENSUS_REACHED);
         return statusMap;
     }
@@ -544,4 +664,16 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
                 totalStake);
         return nodes.subList(0, lastEntry);
     }
+
+    private static long count(Collection<StreamFileSignature> signatures, SignatureStatus status) {
+        return signatures.stream().filter(s -> s.getStatus() == status).count();
+    }
+
+    private record StatusMetricKey(long nodeId, SignatureStatus status) {}
+
+    private record PrefetchedStreamFile<T>(
+            SignatureVerificationException exception,
+            StreamFileSignature signature,
+            StreamFileData streamFileData,
+            T streamFile) {}
 }
@@ -20,16 +20,26 @@ import com.hedera.mirror.importer.domain.StreamFileSignature;
 import com.hedera.mirror.importer.domain.StreamFileSignature.SignatureStatus;
 import com.hedera.mirror.importer.exception.SignatureVerificationException;
 import jakarta.inject.Named;
+import java.math.BigDecimal;
 import java.security.Signature;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.stream.Collectors;
 import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 @Named
 @CustomLog
 @RequiredArgsConstructor
 public class NodeSignatureVerifier {
 
+    private final CommonDownloaderProperties commonDownloaderProperties;
     private final ConsensusValidator consensusValidator;
 
     /**
@@ -48,16 +58,94 @@ public class NodeSignatureVerifier {
      * @throws SignatureVerificationException
      */
     public void verify(Collection<StreamFileSignature> signatures) throws SignatureVerificationException {
+        int parallelism = commonDownloaderProperties.getVerificationParallelism();
 
-        for (StreamFileSignature streamFileSignature : signatures) {
-            if (verifySignature(streamFileSignature)) {
-                streamFileSignature.setStatus(SignatureStatus.VERIFIED);
+        if (parallelism > 0 && signatures.size() > 1) {
+            verifyConcurrently(signatures, parallelism);
+        } else {
+            for (StreamFileSignature streamFileSignature : signatures) {
+                if (verifySignature(streamFileSignature)) {
+                    streamFileSignature.setStatus(SignatureStatus.VERIFIED);
+                }
             }
         }
 
         consensusValidator.validate(signatures);
     }
 
+    /**
+     * Verifies the signatures that were skipped because consensus was reached without them. A valid signature for the
+     * same file hash as the signatures that reached consensus is marked as reaching consensus too, so the data file of
+     * its node can be used when none of the other data files could be.
+     *
+     * @param signatures a list of signature files which have the same filename
+     */
+    public void verifySkipped(Collection<StreamFileSignature> signatures) {
+        var consensusHashes = signatures.stream()
+                .filter(s -> s.getStatus() == SignatureStatus.CONSENSUS_REACHED)
+                .map(StreamFileSignature::getFileHashAsHex)
+                .collect(Collectors.toSet());
+
+        for (var signature : signatures) {
+            if (signature.getStatus() != SignatureStatus.SKIPPED) {
+                continue;
+            }
+
+            if (!verifySignature(signature)) {
+                signature.setStatus(SignatureStatus.DOWNLOADED);
+            } else if (consensusHashes.contains(signature.getFileHashAsHex())) {
+                signature.setStatus(SignatureStatus.CONSENSUS_REACHED);
+            } else {
+                signature.setStatus(SignatureStatus.VERIFIED);
+            }
+        }
+    }
+
+    /**
+     * Verifies the signatures on the parallel scheduler, starting with the nodes with the most stake, until the
+     * verified signatures for one file hash have enough stake to reach consensus. The remaining signatures are marked
+     * as skipped.
+     * Statuses are only updated on the subscriber thread so no verification still in flight can change them afterward.
+     *
+     * @param signatures  a list of signature files which have the same filename
+     * @param parallelism the maximum number of signatures to verify concurrently
+     */
+    private void verifyConcurrently(Collection<StreamFileSignature> signatures, int parallelism) {
+        var totalStake = signatures.iterator().next().getNode().getTotalStake();
+        var stakeRequired = consensusValidator.getStakeRequiredForConsensus(totalStake);
+        var stakes = new HashMap<String, Long>();
+        var verified = Collections.newSetFromMap(new IdentityHashMap<StreamFileSignature, Boolean>());
+        var sorted = signatures.stream()
+                .sorted(Comparator.comparingLong((StreamFileSignature s) -> s.getNode().getStake())
+                        .reversed())
+                .toList();
+
+        Flux.fromIterable(sorted)
+                .flatMap(
+                        s -> Mono.fromCallable(() -> new VerifiedSignature(s, verifySignature(s)))
+                                .subscribeOn(Schedulers.parallel()),
+                        parallelism)
+                .takeUntil(verifiedSignature -> {
+                    var signature = verifiedSignature.signature();
+                    verified.add(signature);
+
+                    if (!verifiedSignature.valid()) {
+                        return false;
+                    }
+
+                    signature.setStatus(SignatureStatus.VERIFIED);
+                    long stake = stakes.merge(signature.getFileHashAsHex(), signature.getNode().getStake(), Long::sum);
+                    return BigDecimal.valueOf(stake).compareTo(stakeRequired) >= 0;
+                })
+                .blockLast();
+
+        for (var signature : sorted) {
+            if (!verified.contains(signature) && signature.getStatus() == SignatureStatus.DOWNLOADED) {
+                signature.setStatus(SignatureStatus.SKIPPED);
+            }
+        }
+    }
+
     /**
      * check whether the given signature is valid
      *
@@ -101,4 +189,6 @@ public class NodeSignatureVerifier {
         }
         return false;
     }
+
+    private record VerifiedSignature(StreamFileSignature signature, boolean valid) {}
 }
@@ -27,6 +27,7 @@ import com.hedera.mirror.importer.downloader.CommonDownloaderProperties;
 import com.hedera.mirror.importer.downloader.CommonDownloaderProperties.PathType;
 import java.time.Instant;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import javax.annotation.Nullable;
 import lombok.CustomLog;
@@ -51,6 +52,7 @@ public final class S3StreamFileProvider implements StreamFileProvider {
     private static final String TEMPLATE_ACCOUNT_ID_PREFIX = "%s/%s%s/";
     private static final String TEMPLATE_NODE_ID_PREFIX = "%s/%d/%d/%s/";
     private final CommonDownloaderProperties properties;
+    private final Map<PathKey, NextPage> nextPages = new ConcurrentHashMap<>();
     private final Map<PathKey, PathResult> paths = new ConcurrentHashMap<>();
     private final S3AsyncClient s3Client;
 
@@ -91,10 +93,11 @@ public final class S3StreamFileProvider implements StreamFileProvider {
                 .requestPayer(RequestPayer.REQUESTER)
                 .build();
 
-        return Mono.fromFuture(s3Client.listObjectsV2(listRequest))
+        return listObjects(key, prefix, listRequest)
                 .timeout(properties.getTimeout())
                 .doOnNext(l -> {
                     pathResult.update(!l.contents().isEmpty());
+                    prefetch(key, prefix, l);
                     log.debug("Returned {} s3 objects", l.contents().size());
                 })
                 .flatMapIterable(ListObjectsV2Response::contents)
@@ -109,6 +112,63 @@ public final class S3StreamFileProvider implements StreamFileProvider {
                 .switchIfEmpty(Flux.defer(() -> pathResult.fallback() ? list(node, lastFilename) : Flux.empty()));
     }
 
+    /**
+     * Uses the page prefetched by the previous listing of this path if the requested position falls between the end of
+     * the previous page and the start of the prefetched page, otherwise lists from the requested position. An empty
+     * prefetched page is never used since files may have been uploaded after it was listed.
+     */
+    private Mono<ListObjectsV2Response> listObjects(PathKey key, String prefix, ListObjectsV2Request listRequest) {
+        var nextPage = nextPages.remove(key);
+        var fresh = Mono.defer(() -> Mono.fromFuture(s3Client.listObjectsV2(listRequest)));
+
+        if (nextPage == null) {
+            return fresh;
+        }
+
+        var startAfter = listRequest.startAfter();
+        if (nextPage.prefix().equals(prefix) && nextPage.lastKey().compareTo(startAfter) <= 0) {
+            return Mono.fromFuture(nextPage.response())
+                    .onErrorResume(e -> {
+                        log.debug("Unable to use listing prefetched after {}: {}", nextPage.lastKey(), e.getMessage());
+                        return Mono.empty();
+                    })
+                    .filter(l -> !l.contents().isEmpty()
+                            && l.contents().get(0).key().compareTo(startAfter) > 0)
+                    .switchIfEmpty(fresh);
+        }
+
+        nextPage.response().cancel(true);
+        return fresh;
+    }
+
+    // Requests the next page of a truncated listing using its continuation token while the current page is processed
+    private void prefetch(PathKey key, String prefix, ListObjectsV2Response listResponse) {
+        var contents = listResponse.contents();
+
+        if (!properties.isListPrefetch()
+                || !Boolean.TRUE.equals(listResponse.isTruncated())
+                || listResponse.nextContinuationToken() == null
+                || contents.isEmpty()) {
+            return;
+        }
+
+        var listRequest = ListObjectsV2Request.builder()
+                .bucket(properties.getBucketName())
+                .prefix(prefix)
+                .delimiter(SEPARATOR)
+                .continuationToken(listResponse.nextContinuationToken())
+                .maxKeys(listResponse.maxKeys())
+                .requestPayer(RequestPayer.REQUESTER)
+                .build();
+        var lastKey = contents.get(contents.size() - 1).key();
+        var nextPage = new NextPage(prefix, lastKey, s3Client.listObjectsV2(listRequest));
+        var previous = nextPages.put(key, nextPage);
+
+        if (previous != null) {
+            previous.response().cancel(true);
+        }
+    }
+
     private String getAccountIdPrefix(PathKey key) {
         var streamType = key.type();
         var nodeAccount = key.node().getNodeAccountId().toString();
@@ -142,6 +202,8 @@ public final class S3StreamFileProvider implements StreamFileProvider {
 
     record PathKey(ConsensusNode node, StreamType type) {}
 
+    private record NextPage(String prefix, String lastKey, CompletableFuture<ListObjectsV2Response> response) {}
+
     @Data
     private class PathResult {
 
@@ -16,11 +16,10 @@
 
 package com.hedera.mirror.importer.downloader.record;
 
-import com.google.common.collect.ArrayListMultimap;
-import com.google.common.collect.Multimaps;
 import com.hedera.mirror.common.domain.transaction.RecordFile;
 import com.hedera.mirror.common.domain.transaction.RecordItem;
 import com.hedera.mirror.common.domain.transaction.SidecarFile;
+import com.hedera.mirror.common.util.DomainUtils;
 import com.hedera.mirror.importer.ImporterProperties;
 import com.hedera.mirror.importer.addressbook.ConsensusNode;
 import com.hedera.mirror.importer.addressbook.ConsensusNodeService;
@@ -38,23 +37,31 @@ import com.hedera.mirror.importer.reader.record.ProtoRecordFileReader;
 import com.hedera.mirror.importer.reader.record.RecordFileReader;
 import com.hedera.mirror.importer.reader.record.sidecar.SidecarFileReader;
 import com.hedera.mirror.importer.reader.signature.SignatureFileReader;
+import com.hedera.mirror.importer.util.LongObjectMap;
 import com.hedera.mirror.importer.util.Utility;
 import com.hedera.services.stream.proto.SidecarType;
 import com.hedera.services.stream.proto.TransactionSidecarRecord;
 import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.inject.Named;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.function.Function;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import org.springframework.scheduling.annotation.Scheduled;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 @Named
 public class RecordFileDownloader extends Downloader<RecordFile, RecordItem> {
 
     private static final String HASH_TYPE_SIDECAR = "Sidecar";
 
+    private final Map<String, PendingSidecars> pendingSidecars = new ConcurrentHashMap<>();
     private final SidecarFileReader sidecarFileReader;
     private final SidecarProperties sidecarProperties;
 
@@ -94,12 +101,47 @@ public class RecordFileDownloader extends Downloader<RecordFile, RecordItem> {
         downloadNextBatch();
     }
 
+    /**
+     * Starts downloading the sidecars of a prefetched record file while the files before it are verified and processed.
+     * Without prefetch, the record file is read right before it's verified, so there's nothing to overlap the download
+     * with and the sidecars are only downloaded once it's verified.
+     */
+    @Override
+    protected void onRead(StreamFileData streamFileData, RecordFile recordFile, ConsensusNode node) {
+        if (downloaderProperties.getCommon().getPrefetch() <= 0
+                || !sidecarProperties.isEnabled()
+                || recordFile.getSidecars().isEmpty()) {
+            return;
+        }
+
+        var streamFilename = streamFileData.getStreamFilename();
+        var sidecarRecords = getSidecarRecords(streamFilename, recordFile, node)
+                .subscribeOn(Schedulers.boundedElastic())
+                .toFuture();
+        var previous = pendingSidecars.put(
+                streamFilename.getFilename(),
+                new PendingSidecars(streamFilename.getInstant(), node.getNodeId(), sidecarRecords));
+
+        if (previous != null) {
+            previous.sidecarRecords().cancel(true);
+        }
+    }
+
     @Override
     protected void onVerified(StreamFileData streamFileData, RecordFile recordFile, ConsensusNode node) {
         downloadSidecars(streamFileData.getStreamFilename(), recordFile, node);
         super.onVerified(streamFileData, recordFile, node);
     }
 
+    @Override
+    protected void onBatchEnd() {
+        // Files after the end of a batch are read again by the next batch, so their downloads are discarded
+        pendingSidecars.values().removeIf(p -> {
+            p.sidecarRecords().cancel(true);
+            return true;
+        });
+    }
+
     @Override
     protected void setStreamFileIndex(RecordFile recordFile) {
         // Starting from the record stream file v6, the record file index is externalized as the block_number field of
@@ -110,34 +152,50 @@ public class RecordFileDownloader extends Downloader<RecordFile, RecordItem> {
     }
 
     private void downloadSidecars(StreamFilename recordFilename, RecordFile recordFile, ConsensusNode node) {
+        var pending = pendingSidecars.remove(recordFilename.getFilename());
+
+        // Discard the downloads for files from other nodes or files that will not be verified
+        pendingSidecars.values().removeIf(p -> {
+            boolean stale = !p.instant().isAfter(recordFilename.getInstant());
+            if (stale) {
+                p.sidecarRecords().cancel(true);
+            }
+            return stale;
+        });
+
         if (!sidecarProperties.isEnabled() || recordFile.getSidecars().isEmpty()) {
             return;
         }
 
+        var sidecarRecords = pending != null && pending.nodeId() == node.getNodeId()
+                ? Mono.fromFuture(pending.sidecarRecords())
+                : getSidecarRecords(recordFilename, recordFile, node);
+        var records = sidecarRecords.block();
+
+        // Record items may be decoded lazily on each subscription, so attach the sidecar records as they are consumed
+        recordFile.setItems(recordFile.getItems().doOnNext(recordItem -> {
+            var transactionSidecarRecords = records.get(recordItem.getConsensusTimestamp());
+            if (transactionSidecarRecords != null) {
+                recordItem.setSidecarRecords(transactionSidecarRecords);
+            }
+        }));
+    }
+
+    private Mono<LongObjectMap<List<TransactionSidecarRecord>>> getSidecarRecords(
+            StreamFilename recordFilename, RecordFile recordFile, ConsensusNode node) {
         var acceptedTypes =
                 sidecarProperties.getTypes().stream().map(Enum::ordinal).collect(Collectors.toSet());
 
-        var records = Flux.fromIterable(recordFile.getSidecars())
+        return Flux.fromIterable(recordFile.getSidecars())
                 .filter(sidecar ->
                         acceptedTypes.isEmpty() || sidecar.getTypes().stream().anyMatch(acceptedTypes::contains))
                 .flatMap(sidecar -> getSidecar(node, recordFilename, sidecar))
                 .flatMapIterable(SidecarFile::getRecords)
                 .filter(t -> acceptedTypes.isEmpty() || acceptedTypes.contains(getSidecarType(t)))
-                .collect(Multimaps.toMultimap(
-                        TransactionSidecarRecord::getConsensusTimestamp,
-                        Function.identity(),
-                        ArrayListMultimap::create))
-                .block();
-
-        recordFile
-                .getItems()
-                .doOnNext(recordItem -> {
-                    var timestamp = recordItem.getTransactionRecord().getConsensusTimestamp();
-                    if (records.containsKey(timestamp)) {
-                        recordItem.setSidecarRecords(records.get(timestamp));
-                    }
-                })
-                .blockLast();
+                .collect(LongObjectMap::new, (records, transactionSidecarRecord) -> {
+                    long timestamp = DomainUtils.timestampInNanosMax(transactionSidecarRecord.getConsensusTimestamp());
+                    records.computeIfAbsent(timestamp, k -> new ArrayList<>()).add(transactionSidecarRecord);
+                });
     }
 
     private Mono<SidecarFile> getSidecar(ConsensusNode node, StreamFilename recordFilename, SidecarFile sidecar) {
@@ -177,4 +235,9 @@ public class RecordFileDownloader extends Downloader<RecordFile, RecordItem> {
             }
         };
     }
+
+    private record PendingSidecars(
+            Instant instant,
+            long nodeId,
+            CompletableFuture<LongObjectMap<List<TransactionSidecarRecord>>> sidecarRecords) {}
 }
@@ -57,6 +57,8 @@ import org.springframework.validation.annotation.Validated;
 @ConfigurationProperties("hedera.mirror.importer.parser")
 public class CommonParserProperties {
 
+    private boolean binaryCopy = false;
+
     @Min(8192)
     private int bufferSize = 32768; // tested max byte size of buffer used by PGCopyOutputStream
 
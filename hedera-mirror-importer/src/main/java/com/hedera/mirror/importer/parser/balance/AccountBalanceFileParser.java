@@ -44,7 +44,10 @@ import org.springframework.transaction.annotation.Transactional;
 @Named
 public class AccountBalanceFileParser extends AbstractStreamFileParser<AccountBalanceFile> {
 
+    private static final int INITIAL_CAPACITY = 65536;
+
     private final BatchPersister batchPersister;
+    private final BinaryBalancePersister binaryBalancePersister;
     private final DateRangeCalculator dateRangeCalculator;
     private final BalanceStreamFileListener streamFileListener;
 
@@ -54,9 +57,11 @@ public class AccountBalanceFileParser extends AbstractStreamFileParser<AccountBa
             BalanceParserProperties parserProperties,
             StreamFileRepository<AccountBalanceFile, Long> accountBalanceFileRepository,
             DateRangeCalculator dateRangeCalculator,
-            BalanceStreamFileListener streamFileListener) {
+            BalanceStreamFileListener streamFileListener,
+            BinaryBalancePersister binaryBalancePersister) {
         super(meterRegistry, parserProperties, accountBalanceFileRepository);
         this.batchPersister = batchPersister;
+        this.binaryBalancePersister = binaryBalancePersister;
         this.dateRangeCalculator = dateRangeCalculator;
         this.streamFileListener = streamFileListener;
     }
@@ -82,10 +87,14 @@ public class AccountBalanceFileParser extends AbstractStreamFileParser<AccountBa
     protected void doParse(AccountBalanceFile accountBalanceFile) {
         log.info("Starting processing account balances file {}", accountBalanceFile.getName());
         DateRangeFilter filter = dateRangeCalculator.getFilter(StreamType.BALANCE);
-        int batchSize = ((BalanceParserProperties) parserProperties).getBatchSize();
+        var properties = (BalanceParserProperties) parserProperties;
+        int batchSize = properties.getBatchSize();
+        boolean included = filter.filter(accountBalanceFile.getConsensusTimestamp());
         long count = 0L;
 
-        if (filter.filter(accountBalanceFile.getConsensusTimestamp())) {
+        if (included && properties.isColumnar()) {
+            count = persistColumns(accountBalanceFile, batchSize);
+        } else if (included) {
             List<AccountBalance> accountBalances = new ArrayList<>(batchSize);
             Map<TokenBalance.Id, TokenBalance> tokenBalances = new HashMap<>(batchSize);
 
@@ -121,4 +130,28 @@ public class AccountBalanceFileParser extends AbstractStreamFileParser<AccountBa
         accountBalanceFile.setLoadEnd(loadEnd.getEpochSecond());
         streamFileListener.onEnd(accountBalanceFile);
     }
+
+    // Decodes the balances into primitive columns and copies them in the binary format without retaining the items
+    private long persistColumns(AccountBalanceFile accountBalanceFile, int batchSize) {
+        var columns = new BalanceColumns(Math.min(batchSize, INITIAL_CAPACITY));
+        long count = accountBalanceFile
+                .getItems()
+                .doOnNext(accountBalance -> {
+                    columns.add(accountBalance);
+
+                    if (columns.getAccountBalanceCount() >= batchSize) {
+                        binaryBalancePersister.persistAccountBalances(columns);
+                    }
+
+                    if (columns.getTokenBalanceCount() >= batchSize) {
+                        binaryBalancePersister.persistTokenBalances(columns);
+                    }
+                })
+                .count()
+                .block();
+
+        binaryBalancePersister.persistAccountBalances(columns);
+        binaryBalancePersister.persistTokenBalances(columns);
+        return count;
+    }
 }
@@ -0,0 +1,135 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.balance;
+
+import com.hedera.mirror.common.domain.balance.AccountBalance;
+import com.hedera.mirror.importer.parser.batch.BinaryCopyWriter;
+import com.hedera.mirror.importer.util.LongPairSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import lombok.CustomLog;
+
+/**
+ * Accumulates the account and token balances of a balance file in primitive columns so they can be copied to the
+ * database without retaining the domain objects. Token balances are deduplicated by account and token until the token
+ * balance columns are cleared, the same as the parser does for each batch. Not thread-safe.
+ */
+@CustomLog
+final class BalanceColumns {
+
+    private long[] accountIds;
+    private long[] balances;
+    private long[] timestamps;
+    private int accountBalanceCount;
+
+    private long[] tokenAccountIds;
+    private long[] tokenBalances;
+    private long[] tokenIds;
+    private long[] tokenTimestamps;
+    private int tokenBalanceCount;
+
+    private final LongPairSet tokenBalanceIds;
+
+    BalanceColumns(int capacity) {
+        accountIds = new long[capacity];
+        balances = new long[capacity];
+        timestamps = new long[capacity];
+        tokenAccountIds = new long[capacity];
+        tokenBalances = new long[capacity];
+        tokenIds = new long[capacity];
+        tokenTimestamps = new long[capacity];
+        tokenBalanceIds = new LongPairSet(capacity);
+    }
+
+    void add(AccountBalance accountBalance) {
+        if (accountBalanceCount == accountIds.length) {
+            int capacity = accountBalanceCount << 1;
+            accountIds = Arrays.copyOf(accountIds, capacity);
+            balances = Arrays.copyOf(balances, capacity);
+            timestamps = Arrays.copyOf(timestamps, capacity);
+        }
+
+        var id = accountBalance.getId();
+        long accountId = id.getAccountId().getId();
+        accountIds[accountBalanceCount] = accountId;
+        balances[accountBalanceCount] = accountBalance.getBalance();
+        timestamps[accountBalanceCount] = id.getConsensusTimestamp();
+        accountBalanceCount++;
+
+        for (var tokenBalance : accountBalance.getTokenBalances()) {
+            var tokenBalanceId = tokenBalance.getId();
+            long tokenId = tokenBalanceId.getTokenId().getId();
+
+            if (!tokenBalanceIds.add(tokenBalanceId.getAccountId().getId(), tokenId)) {
+                log.warn("Skipping duplicate token balance: {}", tokenBalance);
+                continue;
+            }
+
+            if (tokenBalanceCount == tokenIds.length) {
+                int capacity = tokenBalanceCount << 1;
+                tokenAccountIds = Arrays.copyOf(tokenAccountIds, capacity);
+                tokenBalances = Arrays.copyOf(tokenBalances, capacity);
+                tokenIds = Arrays.copyOf(tokenIds, capacity);
+                tokenTimestamps = Arrays.copyOf(tokenTimestamps, capacity);
+            }
+
+            tokenAccountIds[tokenBalanceCount] = tokenBalanceId.getAccountId().getId();
+            tokenBalances[tokenBalanceCount] = tokenBalance.getBalance();
+            tokenIds[tokenBalanceCount] = tokenId;
+            tokenTimestamps[tokenBalanceCount] = tokenBalanceId.getConsensusTimestamp();
+            tokenBalanceCount++;
+        }
+    }
+
+    int getAccountBalanceCount() {
+        return accountBalanceCount;
+    }
+
+    int getTokenBalanceCount() {
+        return tokenBalanceCount;
+    }
+
+    void clearAccountBalances() {
+        accountBalanceCount = 0;
+    }
+
+    void clearTokenBalances() {
+        tokenBalanceCount = 0;
+        tokenBalanceIds.clear();
+    }
+
+    // Columns in the order of BinaryBalancePersister.ACCOUNT_BALANCE_SQL
+    void writeAccountBalances(BinaryCopyWriter writer) throws SQLException {
+        for (int i = 0; i < accountBalanceCount; i++) {
+            writer.putShort((short) 3);
+            writer.putInt8(accountIds[i]);
+            writer.putInt8(balances[i]);
+            writer.putInt8(timestamps[i]);
+        }
+    }
+
+    // Columns in the order of BinaryBalancePersister.TOKEN_BALANCE_SQL
+    void writeTokenBalances(BinaryCopyWriter writer) throws SQLException {
+        for (int i = 0; i < tokenBalanceCount; i++) {
+            writer.putShort((short) 4);
+            writer.putInt8(tokenAccountIds[i]);
+            writer.putInt8(tokenBalances[i]);
+            writer.putInt8(tokenTimestamps[i]);
+            writer.putInt8(tokenIds[i]);
+        }
+    }
+}
@@ -40,6 +40,8 @@ public class BalanceParserProperties extends AbstractParserProperties {
     @Min(1)
     private int batchSize = 200_000;
 
+    private boolean columnar = false;
+
     @Min(1)
     private int fileBufferSize = 200_000;
 
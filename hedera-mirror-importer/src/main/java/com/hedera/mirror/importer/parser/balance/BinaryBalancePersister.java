@@ -0,0 +1,129 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.balance;
+
+import static com.hedera.mirror.importer.parser.batch.BatchPersister.LATENCY_METRIC;
+
+import com.google.common.base.Stopwatch;
+import com.hedera.mirror.importer.exception.ParserException;
+import com.hedera.mirror.importer.parser.CommonParserProperties;
+import com.hedera.mirror.importer.parser.batch.BinaryCopyWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.inject.Named;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import lombok.CustomLog;
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+
+/**
+ * Copies the columns of account and token balances to the database using binary COPY on the current transaction's
+ * connection. Rows are encoded straight from the primitive columns, so no domain objects or CSV is involved.
+ */
+@CustomLog
+@Named
+public class BinaryBalancePersister {
+
+    static final String ACCOUNT_BALANCE_SQL =
+            "COPY account_balance(account_id, balance, consensus_timestamp) FROM STDIN WITH (FORMAT binary)";
+    static final String TOKEN_BALANCE_SQL =
+            "COPY token_balance(account_id, balance, consensus_timestamp, token_id) FROM STDIN WITH (FORMAT binary)";
+
+    private final DataSource dataSource;
+    private final CommonParserProperties properties;
+    private final Timer accountBalanceLatency;
+    private final Counter accountBalanceRows;
+    private final Timer tokenBalanceLatency;
+    private final Counter tokenBalanceRows;
+
+    BinaryBalancePersister(DataSource dataSource, MeterRegistry meterRegistry, CommonParserProperties properties) {
+        this.dataSource = dataSource;
+        this.properties = properties;
+        accountBalanceLatency = latencyMetric(meterRegistry, "account_balance");
+        accountBalanceRows = rowsMetric(meterRegistry, "account_balance");
+        tokenBalanceLatency = latencyMetric(meterRegistry, "token_balance");
+        tokenBalanceRows = rowsMetric(meterRegistry, "token_balance");
+    }
+
+    void persistAccountBalances(BalanceColumns columns) {
+        int count = columns.getAccountBalanceCount();
+        if (count > 0) {
+            copy(ACCOUNT_BALANCE_SQL, "account_balance", count, accountBalanceLatency, columns::writeAccountBalances);
+            accountBalanceRows.increment(count);
+            columns.clearAccountBalances();
+        }
+    }
+
+    void persistTokenBalances(BalanceColumns columns) {
+        int count = columns.getTokenBalanceCount();
+        if (count > 0) {
+            copy(TOKEN_BALANCE_SQL, "token_balance", count, tokenBalanceLatency, columns::writeTokenBalances);
+            tokenBalanceRows.increment(count);
+            columns.clearTokenBalances();
+        }
+    }
+
+    private void copy(String sql, String tableName, int count, Timer latencyMetric, RowWriter rowWriter) {
+        var stopwatch = Stopwatch.createStarted();
+        var connection = DataSourceUtils.getConnection(dataSource);
+
+        try {
+            var copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql);
+
+            try {
+                var writer = new BinaryCopyWriter(copyIn, properties.getBufferSize());
+                writer.writeHeader();
+                rowWriter.write(writer);
+                writer.writeTrailer();
+                copyIn.endCopy();
+            } finally {
+                if (copyIn.isActive()) {
+                    copyIn.cancelCopy();
+                }
+            }
+
+            latencyMetric.record(stopwatch.elapsed());
+            log.info("Copied {} rows to {} table in {}", count, tableName, stopwatch);
+        } catch (Exception e) {
+            throw new ParserException(String.format("Error copying %d items to table %s", count, tableName), e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private static Timer latencyMetric(MeterRegistry meterRegistry, String tableName) {
+        return Timer.builder(LATENCY_METRIC)
+                .description("The time it took to batch insert rows")
+                .tag("table", tableName)
+                .tag("upsert", "false")
+                .register(meterRegistry);
+    }
+
+    private static Counter rowsMetric(MeterRegistry meterRegistry, String tableName) {
+        return Counter.builder("hedera.mirror.importer.batch.rows")
+                .description("The number of rows inserted into the table")
+                .tag("table", tableName)
+                .register(meterRegistry);
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(BinaryCopyWriter writer) throws SQLException;
+    }
+}
@@ -34,6 +34,7 @@ import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Collection;
@@ -54,12 +55,12 @@ public class BatchInserter implements BatchPersister {
     protected final DataSource dataSource;
     protected final Timer latencyMetric;
     protected final MeterRegistry meterRegistry;
+    protected final CommonParserProperties properties;
+    protected final Counter rowsMetric;
     protected final String tableName;
 
-    private final Counter rowsMetric;
     private final String sql;
     private final ObjectWriter writer;
-    private final CommonParserProperties properties;
 
     public BatchInserter(
             Class<?> entityClass,
@@ -115,14 +116,20 @@ public class BatchInserter implements BatchPersister {
 
         Connection connection = DataSourceUtils.getConnection(dataSource);
 
+        try {
+            persist(items, connection);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    void persist(Collection<?> items, Connection connection) {
         try {
             Stopwatch stopwatch = Stopwatch.createStarted();
             persistItems(items, connection);
             log.info("Copied {} rows to {} table in {}", items.size(), tableName, stopwatch);
         } catch (Exception e) {
             throw new ParserException(String.format("Error copying %d items to table %s", items.size(), tableName), e);
-        } finally {
-            DataSourceUtils.releaseConnection(connection, dataSource);
         }
     }
 
@@ -137,7 +144,7 @@ public class BatchInserter implements BatchPersister {
         }
 
         try (var pgCopyOutputStream = new PGCopyOutputStream(copyIn, properties.getBufferSize())) {
-            writer.writeValue(pgCopyOutputStream, items);
+            write(items, pgCopyOutputStream);
             rowsMetric.increment(items.size());
             latencyMetric.record(stopwatch.elapsed());
         } finally {
@@ -146,4 +153,8 @@ public class BatchInserter implements BatchPersister {
             }
         }
     }
+
+    void write(Collection<?> items, OutputStream outputStream) throws IOException {
+        writer.writeValue(outputStream, items);
+    }
 }
@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2020-2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.batch;
+
+import com.google.common.base.Stopwatch;
+import com.hedera.mirror.importer.parser.CommonParserProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import javax.sql.DataSource;
+import org.postgresql.PGConnection;
+
+/**
+ * Stateless writer to insert rows into PostgreSQL using binary COPY. Rows are encoded directly from the entity's
+ * getters into a buffer that is written to the COPY stream, avoiding the CSV serialization and the server side text
+ * parsing.
+ */
+public class BinaryBatchInserter extends BatchInserter {
+
+    private final BinaryCopyEncoder encoder;
+    private final String sql;
+
+    BinaryBatchInserter(
+            Class<?> entityClass,
+            DataSource dataSource,
+            MeterRegistry meterRegistry,
+            CommonParserProperties properties,
+            BinaryCopyEncoder encoder) {
+        super(entityClass, dataSource, meterRegistry, properties);
+        this.encoder = encoder;
+        this.sql = String.format("COPY %s(%s) FROM STDIN WITH (FORMAT binary)", tableName, encoder.getColumns());
+    }
+
+    @Override
+    protected void persistItems(Collection<?> items, Connection connection) throws SQLException {
+        var stopwatch = Stopwatch.createStarted();
+        var copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql);
+
+        try {
+            encoder.encode(items, copyIn, properties.getBufferSize());
+            copyIn.endCopy();
+            rowsMetric.increment(items.size());
+            latencyMetric.record(stopwatch.elapsed());
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+}
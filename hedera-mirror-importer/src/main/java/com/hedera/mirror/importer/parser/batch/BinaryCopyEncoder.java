@@ -0,0 +1,260 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.batch;
+
+import com.google.common.collect.BoundType;
+import com.google.common.collect.Range;
+import com.google.common.primitives.Shorts;
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.importer.repository.upsert.ColumnMetadata;
+import com.hedera.mirror.importer.repository.upsert.EntityMetadata;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import lombok.CustomLog;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.postgresql.copy.CopyIn;
+
+/**
+ * Encodes domain objects into the PostgreSQL binary COPY format. The encoder for each column is chosen once from the
+ * entity metadata and reads the value using the column's generated getter, so no reflection or text conversion happens
+ * per row. Entities with a column type that has no binary encoder are not supported and should use the CSV format.
+ */
+@CustomLog
+@RequiredArgsConstructor
+final class BinaryCopyEncoder {
+
+    private static final int INT8_OID = 20;
+    private static final int NULL = -1;
+    private static final Set<String> TEXT_TYPES = Set.of("bpchar", "text", "varchar");
+
+    // Range flags from PostgreSQL's rangetypes.h
+    private static final byte RANGE_EMPTY = 0x01;
+    private static final byte RANGE_LB_INC = 0x02;
+    private static final byte RANGE_UB_INC = 0x04;
+    private static final byte RANGE_LB_INF = 0x08;
+    private static final byte RANGE_UB_INF = 0x10;
+
+    @Getter
+    private final String columns;
+
+    private final List<ColumnEncoder> encoders;
+
+    static Optional<BinaryCopyEncoder> of(EntityMetadata entityMetadata) {
+        var encoders = new ArrayList<ColumnEncoder>();
+
+        for (var column : entityMetadata.getColumns()) {
+            var valueEncoder = valueEncoder(column);
+
+            if (valueEncoder == null) {
+                log.debug(
+                        "Unsupported binary copy of column {} of type {} in table {}",
+                        column.getName(),
+                        column.getDataType(),
+                        entityMetadata.getTableName());
+                return Optional.empty();
+            }
+
+            var getter = column.getGetter();
+            encoders.add(columnEncoder(getter, valueEncoder));
+        }
+
+        return Optional.of(new BinaryCopyEncoder(entityMetadata.columns("{0}"), encoders));
+    }
+
+    void encode(Collection<?> items, CopyIn copyIn, int bufferSize) throws SQLException {
+        var writer = new BinaryCopyWriter(copyIn, bufferSize);
+        writer.writeHeader();
+
+        for (var item : items) {
+            writer.putShort((short) encoders.size());
+
+            for (var encoder : encoders) {
+                encoder.encode(item, writer);
+            }
+        }
+
+        writer.writeTrailer();
+    }
+
+    private static ColumnEncoder columnEncoder(Function<Object, Object> getter, ValueEncoder valueEncoder) {
+        return (item, writer) -> {
+            var value = getter.apply(item);
+
+            if (value == null) {
+                writer.putInt(NULL);
+            } else {
+                valueEncoder.encode(value, writer);
+            }
+        };
+    }
+
+    @SuppressWarnings("java:S1142")
+    private static ValueEncoder valueEncoder(ColumnMetadata column) {
+        var dataType = column.getDataType();
+        var type = column.getType();
+
+        if (dataType == null) {
+            return null;
+        }
+
+        return switch (dataType) {
+            case "bool" -> isAny(type, boolean.class, Boolean.class) ? BinaryCopyEncoder::encodeBoolean : null;
+            case "bytea" -> type == byte[].class ? BinaryCopyEncoder::encodeBytes : null;
+            case "int2" -> isAny(type, short.class, Short.class, int.class, Integer.class)
+                    ? BinaryCopyEncoder::encodeShort
+                    : null;
+            case "int4" -> isAny(type, short.class, Short.class, int.class, Integer.class)
+                    ? BinaryCopyEncoder::encodeInt
+                    : null;
+            case "int8" -> isAny(type, int.class, Integer.class, long.class, Long.class, EntityId.class)
+                    ? BinaryCopyEncoder::encodeLong
+                    : null;
+            case "int8range" -> type == Range.class ? BinaryCopyEncoder::encodeRange : null;
+            case "_int8" -> List.class.isAssignableFrom(type) ? BinaryCopyEncoder::encodeLongArray : null;
+            default -> {
+                if (TEXT_TYPES.contains(dataType) && type == String.class) {
+                    yield BinaryCopyEncoder::encodeString;
+                } else if (type.isEnum() && !dataType.startsWith("int")) {
+                    // A user defined enum type whose binary input is its label
+                    yield BinaryCopyEncoder::encodeEnum;
+                }
+
+                yield null;
+            }
+        };
+    }
+
+    private static boolean isAny(Class<?> type, Class<?>... types) {
+        for (var t : types) {
+            if (type == t) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static void encodeBoolean(Object value, BinaryCopyWriter writer) throws SQLException {
+        writer.putInt(1);
+        writer.put((Boolean) value ? (byte) 1 : (byte) 0);
+    }
+
+    private static void encodeBytes(Object value, BinaryCopyWriter writer) throws SQLException {
+        var bytes = (byte[]) value;
+        writer.putInt(bytes.length);
+        writer.put(bytes);
+    }
+
+    private static void encodeEnum(Object value, BinaryCopyWriter writer) throws SQLException {
+        encodeString(((Enum<?>) value).name(), writer);
+    }
+
+    private static void encodeInt(Object value, BinaryCopyWriter writer) throws SQLException {
+        writer.putInt(4);
+        writer.putInt(((Number) value).intValue());
+    }
+
+    private static void encodeLong(Object value, BinaryCopyWriter writer) throws SQLException {
+        if (value instanceof EntityId entityId) {
+            if (EntityId.isEmpty(entityId)) {
+                writer.putInt(NULL);
+                return;
+            }
+
+            value = entityId.getId();
+        }
+
+        writer.putInt(8);
+        writer.putLong(((Number) value).longValue());
+    }
+
+    private static void encodeLongArray(Object value, BinaryCopyWriter writer) throws SQLException {
+        var list = (List<?>) value;
+        int size = list.size();
+        int dimensions = size > 0 ? 1 : 0;
+
+        writer.putInt(12 + dimensions * (8 + 12 * size));
+        writer.putInt(dimensions);
+        writer.putInt(0); // Has nulls
+        writer.putInt(INT8_OID);
+
+        if (dimensions > 0) {
+            writer.putInt(size);
+            writer.putInt(1); // Lower bound
+
+            for (var element : list) {
+                writer.putInt(8);
+                writer.putLong(((Number) element).longValue());
+            }
+        }
+    }
+
+    private static void encodeRange(Object value, BinaryCopyWriter writer) throws SQLException {
+        var range = (Range<?>) value;
+
+        if (range.isEmpty()) {
+            writer.putInt(1);
+            writer.put(RANGE_EMPTY);
+            return;
+        }
+
+        boolean hasLower = range.hasLowerBound();
+        boolean hasUpper = range.hasUpperBound();
+        byte flags = 0;
+        flags |= hasLower ? (range.lowerBoundType() == BoundType.CLOSED ? RANGE_LB_INC : 0) : RANGE_LB_INF;
+        flags |= hasUpper ? (range.upperBoundType() == BoundType.CLOSED ? RANGE_UB_INC : 0) : RANGE_UB_INF;
+
+        writer.putInt(1 + (hasLower ? 12 : 0) + (hasUpper ? 12 : 0));
+        writer.put(flags);
+
+        if (hasLower) {
+            writer.putInt(8);
+            writer.putLong(((Number) range.lowerEndpoint()).longValue());
+        }
+
+        if (hasUpper) {
+            writer.putInt(8);
+            writer.putLong(((Number) range.upperEndpoint()).longValue());
+        }
+    }
+
+    private static void encodeShort(Object value, BinaryCopyWriter writer) throws SQLException {
+        writer.putInt(2);
+        writer.putShort(Shorts.checkedCast(((Number) value).longValue()));
+    }
+
+    private static void encodeString(Object value, BinaryCopyWriter writer) throws SQLException {
+        encodeBytes(((String) value).getBytes(StandardCharsets.UTF_8), writer);
+    }
+
+    @FunctionalInterface
+    private interface ColumnEncoder {
+        void encode(Object item, BinaryCopyWriter writer) throws SQLException;
+    }
+
+    @FunctionalInterface
+    private interface ValueEncoder {
+        void encode(Object value, BinaryCopyWriter writer) throws SQLException;
+    }
+}
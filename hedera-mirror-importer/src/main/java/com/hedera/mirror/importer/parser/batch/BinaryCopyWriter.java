@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.batch;
+
+import java.nio.ByteBuffer;
+import java.sql.SQLException;
+import org.postgresql.copy.CopyIn;
+
+/**
+ * Buffers rows encoded in the PostgreSQL binary COPY format and writes them to the COPY stream whenever the buffer fills
+ * up. Callers are responsible for writing the header, each row's field count and fields, and the trailer in order.
+ */
+public class BinaryCopyWriter {
+
+    private static final byte[] HEADER = {'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0};
+
+    private final ByteBuffer buffer;
+    private final CopyIn copyIn;
+
+    public BinaryCopyWriter(CopyIn copyIn, int bufferSize) {
+        this.buffer = ByteBuffer.allocate(bufferSize);
+        this.copyIn = copyIn;
+    }
+
+    public void writeHeader() throws SQLException {
+        put(HEADER);
+        putInt(0); // Flags
+        putInt(0); // Header extension length
+    }
+
+    public void writeTrailer() throws SQLException {
+        putShort((short) -1);
+        flush();
+    }
+
+    /**
+     * Writes a non-null int8 field, prefixed by its length.
+     *
+     * @param value the field value
+     * @throws SQLException if writing to the COPY stream fails
+     */
+    public void putInt8(long value) throws SQLException {
+        ensureRemaining(Integer.BYTES + Long.BYTES);
+        buffer.putInt(Long.BYTES);
+        buffer.putLong(value);
+    }
+
+    public void put(byte value) throws SQLException {
+        ensureRemaining(Byte.BYTES);
+        buffer.put(value);
+    }
+
+    public void put(byte[] bytes) throws SQLException {
+        if (bytes.length > buffer.capacity()) {
+            flush();
+            copyIn.writeToCopy(bytes, 0, bytes.length);
+            return;
+        }
+
+        ensureRemaining(bytes.length);
+        buffer.put(bytes);
+    }
+
+    public void putInt(int value) throws SQLException {
+        ensureRemaining(Integer.BYTES);
+        buffer.putInt(value);
+    }
+
+    public void putLong(long value) throws SQLException {
+        ensureRemaining(Long.BYTES);
+        buffer.putLong(value);
+    }
+
+    public void putShort(short value) throws SQLException {
+        ensureRemaining(Short.BYTES);
+        buffer.putShort(value);
+    }
+
+    public void flush() throws SQLException {
+        if (buffer.position() > 0) {
+            copyIn.writeToCopy(buffer.array(), 0, buffer.position());
+            buffer.clear();
+        }
+    }
+
+    private void ensureRemaining(int bytes) throws SQLException {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+}
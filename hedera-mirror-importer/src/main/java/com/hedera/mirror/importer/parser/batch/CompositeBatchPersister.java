@@ -19,6 +19,7 @@ package com.hedera.mirror.importer.parser.batch;
 import com.hedera.mirror.common.domain.Upsertable;
 import com.hedera.mirror.common.domain.transaction.TransactionHash;
 import com.hedera.mirror.importer.parser.CommonParserProperties;
+import com.hedera.mirror.importer.repository.upsert.EntityMetadataRegistry;
 import com.hedera.mirror.importer.repository.upsert.UpsertQueryGenerator;
 import com.hedera.mirror.importer.repository.upsert.UpsertQueryGeneratorFactory;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -29,26 +30,31 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import javax.sql.DataSource;
+import lombok.CustomLog;
 import org.springframework.context.annotation.Primary;
 import org.springframework.core.annotation.AnnotationUtils;
 
+@CustomLog
 @Named
 @Primary
 public class CompositeBatchPersister implements BatchPersister {
 
     private final Map<Class<?>, BatchPersister> batchPersisters = new ConcurrentHashMap<>();
     private final DataSource dataSource;
+    private final EntityMetadataRegistry entityMetadataRegistry;
     private final MeterRegistry meterRegistry;
     private final CommonParserProperties properties;
     private final UpsertQueryGeneratorFactory upsertQueryGeneratorFactory;
 
     public CompositeBatchPersister(
             DataSource dataSource,
+            EntityMetadataRegistry entityMetadataRegistry,
             MeterRegistry meterRegistry,
             CommonParserProperties properties,
             UpsertQueryGeneratorFactory upsertQueryGeneratorFactory,
             Optional<TransactionHashBatchInserter> transactionHashV1BatchPersister) {
         this.dataSource = dataSource;
+        this.entityMetadataRegistry = entityMetadataRegistry;
         this.meterRegistry = meterRegistry;
         this.properties = properties;
         this.upsertQueryGeneratorFactory = upsertQueryGeneratorFactory;
@@ -68,10 +74,14 @@ public class CompositeBatchPersister implements BatchPersister {
             throw new UnsupportedOperationException("Object does not support batch insertion: " + item);
         }
 
-        BatchPersister batchPersister = batchPersisters.computeIfAbsent(item.getClass(), this::create);
+        BatchPersister batchPersister = getBatchPersister(item.getClass());
         batchPersister.persist(items);
     }
 
+    BatchPersister getBatchPersister(Class<?> domainClass) {
+        return batchPersisters.computeIfAbsent(domainClass, this::create);
+    }
+
     private BatchPersister create(Class<?> domainClass) {
         Entity entity = AnnotationUtils.findAnnotation(domainClass, Entity.class);
 
@@ -85,8 +95,24 @@ public class CompositeBatchPersister implements BatchPersister {
         if (upsertable != null) {
             UpsertQueryGenerator generator = upsertQueryGeneratorFactory.get(domainClass);
             return new BatchUpserter(entityClass, dataSource, meterRegistry, properties, generator);
-        } else {
-            return new BatchInserter(entityClass, dataSource, meterRegistry, properties);
+        }
+
+        if (properties.isBinaryCopy()) {
+            var encoder = binaryCopyEncoder(entityClass);
+            if (encoder.isPresent()) {
+                return new BinaryBatchInserter(entityClass, dataSource, meterRegistry, properties, encoder.get());
+            }
+        }
+
+        return new BatchInserter(entityClass, dataSource, meterRegistry, properties);
+    }
+
+    private Optional<BinaryCopyEncoder> binaryCopyEncoder(Class<?> entityClass) {
+        try {
+            return BinaryCopyEncoder.of(entityMetadataRegistry.lookupEntity(entityClass));
+        } catch (Exception e) {
+            log.warn("Unable to use binary copy for {}, falling back to CSV: {}", entityClass.getSimpleName(), e.getMessage());
+            return Optional.empty();
         }
     }
 
@@ -0,0 +1,233 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.batch;
+
+import com.google.common.base.Stopwatch;
+import com.hedera.mirror.importer.exception.ParserException;
+import jakarta.inject.Named;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import javax.sql.DataSource;
+import lombok.CustomLog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Persists independent, insert-only batches concurrently over additional connections while keeping them atomic with
+ * the parser's transaction. Each batch is copied over an additional connection into an unlogged staging table with the
+ * same name in the staging schema, and then moved into its table by the parser's transaction with a single
+ * insert-select. The rows are therefore committed and become visible together with the rest of the record file. A
+ * failure in either transaction leaves nothing to clean up, since the staging tables are truncated before each use.
+ * <p>
+ * The staging tables are recreated from their tables the first time they're used, so they pick up any migrations run
+ * on startup. The database user needs permission to create the staging schema.
+ */
+@CustomLog
+@Named
+@RequiredArgsConstructor
+public class ParallelBatchPersister {
+
+    static final String STAGING_SCHEMA = "importer_staging";
+
+    private static final String STAGING_SEARCH_PATH_SQL =
+            "select set_config('search_path', '" + STAGING_SCHEMA + ",' || current_setting('search_path'), true)";
+
+    private final CompositeBatchPersister batchPersister;
+    private final DataSource dataSource;
+    private final Set<String> stagingTables = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Persists the batches in order on the current thread's connection, except for batches of independent, insert-only
+     * domain classes which are staged across up to parallelism additional connections.
+     *
+     * @param batches     the batches of domain objects to persist, in persist order
+     * @param parallelism the maximum number of additional connections to use
+     * @param independent whether a domain class can be persisted independently of the other domain classes
+     */
+    public void persist(Collection<? extends Collection<?>> batches, int parallelism, Predicate<Class<?>> independent) {
+        var concurrent = new ArrayList<Collection<?>>();
+        var serial = new ArrayList<Collection<?>>();
+        var tables = new HashSet<String>();
+        boolean enabled = parallelism > 0 && TransactionSynchronizationManager.isSynchronizationActive();
+
+        for (var batch : batches) {
+            if (batch.isEmpty()) {
+                continue;
+            }
+
+            // A table can only be staged by one batch at a time, so other batches for the same table are kept serial
+            var domainClass = batch.iterator().next().getClass();
+            if (enabled
+                    && independent.test(domainClass)
+                    && isInsertOnly(domainClass)
+                    && tables.add(getBatchInserter(batch).tableName)) {
+                concurrent.add(batch);
+            } else {
+                serial.add(batch);
+            }
+        }
+
+        if (concurrent.isEmpty()) {
+            serial.forEach(batchPersister::persist);
+            return;
+        }
+
+        var workers = Mono.when(partition(concurrent, parallelism).stream()
+                        .map(group -> Mono.fromRunnable(() -> stage(group)).subscribeOn(Schedulers.boundedElastic()))
+                        .toList())
+                .toFuture();
+
+        RuntimeException exception = null;
+
+        try {
+            serial.forEach(batchPersister::persist);
+        } catch (RuntimeException e) {
+            exception = e;
+        }
+
+        try {
+            workers.join();
+        } catch (CompletionException e) {
+            if (exception == null) {
+                exception = e.getCause() instanceof ParserException pe ? pe : new ParserException(e.getCause());
+            }
+        }
+
+        if (exception != null) {
+            throw exception;
+        }
+
+        unstage(tables);
+    }
+
+    private BatchInserter getBatchInserter(Collection<?> batch) {
+        return (BatchInserter) batchPersister.getBatchPersister(batch.iterator().next().getClass());
+    }
+
+    private boolean isInsertOnly(Class<?> domainClass) {
+        var persister = batchPersister.getBatchPersister(domainClass);
+        return persister instanceof BatchInserter && !(persister instanceof BatchUpserter);
+    }
+
+    // Copies the batches into their staging tables in a separate transaction committed before the parser's transaction
+    private void stage(List<Collection<?>> group) {
+        var stopwatch = Stopwatch.createStarted();
+        var created = new ArrayList<String>();
+
+        try (var connection = dataSource.getConnection()) {
+            try {
+                connection.setAutoCommit(false);
+
+                for (var batch : group) {
+                    var tableName = getBatchInserter(batch).tableName;
+                    if (!stagingTables.contains(tableName)) {
+                        createStagingTable(connection, tableName);
+                        created.add(tableName);
+                    }
+                    execute(connection, "truncate table " + STAGING_SCHEMA + "." + tableName);
+                }
+
+                // The batch inserters copy into unqualified table names, which now resolve to the staging tables
+                execute(connection, STAGING_SEARCH_PATH_SQL);
+
+                for (var batch : group) {
+                    getBatchInserter(batch).persist(batch, connection);
+                }
+
+                connection.commit();
+                stagingTables.addAll(created);
+            } catch (RuntimeException | SQLException e) {
+                connection.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new ParserException("Error staging parallel batch persist", e);
+        }
+
+        log.debug("Staged {} tables over a separate connection in {}", group.size(), stopwatch);
+    }
+
+    private void createStagingTable(Connection connection, String tableName) throws SQLException {
+        var stagingTable = STAGING_SCHEMA + "." + tableName;
+        execute(connection, "create schema if not exists " + STAGING_SCHEMA);
+        execute(connection, "drop table if exists " + stagingTable);
+        execute(connection, "create unlogged table " + stagingTable + " (like " + tableName + " including defaults)");
+        log.info("Created staging table {}", stagingTable);
+    }
+
+    // Moves the staged rows into their tables in the parser's transaction, so they commit with the record file
+    private void unstage(Collection<String> tables) {
+        var stopwatch = Stopwatch.createStarted();
+        var connection = DataSourceUtils.getConnection(dataSource);
+
+        try {
+            for (var tableName : tables) {
+                execute(connection, "insert into " + tableName + " select * from " + STAGING_SCHEMA + "." + tableName);
+            }
+        } catch (SQLException e) {
+            throw new ParserException("Error moving staged rows of parallel batch persist", e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+
+        log.debug("Moved {} staged tables in {}", tables.size(), stopwatch);
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (var statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    // Distributes the batches across the groups, largest batch first, to even out the rows per connection
+    private List<List<Collection<?>>> partition(List<Collection<?>> batches, int parallelism) {
+        int size = Math.min(batches.size(), parallelism);
+        var groups = new ArrayList<List<Collection<?>>>(size);
+        var rows = new long[size];
+
+        for (int i = 0; i < size; i++) {
+            groups.add(new ArrayList<>());
+        }
+
+        batches.sort((left, right) -> Integer.compare(right.size(), left.size()));
+
+        for (var batch : batches) {
+            int smallest = 0;
+            for (int i = 1; i < size; i++) {
+                if (rows[i] < rows[smallest]) {
+                    smallest = i;
+                }
+            }
+
+            groups.get(smallest).add(batch);
+            rows[smallest] += batch.size();
+        }
+
+        return groups;
+    }
+}
@@ -16,26 +16,43 @@
 
 package com.hedera.mirror.importer.parser.record.entity;
 
+import com.hedera.mirror.importer.util.LongObjectMap;
 import jakarta.inject.Named;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BinaryOperator;
 import java.util.function.Consumer;
 import lombok.Getter;
 import lombok.NonNull;
+import lombok.Setter;
 
 /**
- * Stores the domain objects parsed from the stream files before persisting to the database.
+ * Stores the domain objects parsed from the stream files before persisting to the database. Each domain class is
+ * assigned a fixed slot index the first time it's seen so looking up its state is an array access. The slots and their
+ * merge state are reused across stream files to avoid reallocating them for every file. The insert lists are replaced
+ * on clear instead since publishers may still be reading the previous file's inserts asynchronously.
  */
 @Named
 public class ParserContext {
 
-    private final Map<Class<?>, DomainContext<?>> state = new ConcurrentSkipListMap<>(new DomainClassComparator());
+    private static final Comparator<DomainContext<?>> COMPARATOR = Comparator.<DomainContext<?>, Class<?>>comparing(
+            DomainContext::getDomainClass, new DomainClassComparator());
+    private static final AtomicInteger SLOT_COUNT = new AtomicInteger(0);
+    private static final ClassValue<Integer> SLOTS = new ClassValue<>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            return SLOT_COUNT.getAndIncrement();
+        }
+    };
+
+    private volatile DomainContext<?>[] state = new DomainContext<?>[0];
 
     public <T> void add(@NonNull T object) {
         var domainContext = getDomainContext(object);
@@ -51,16 +68,29 @@ public class ParserContext {
     }
 
     public void clear() {
-        state.clear();
+        for (var domainContext : state) {
+            if (domainContext != null) {
+                domainContext.reset();
+            }
+        }
     }
 
     public void forEach(@NonNull Consumer<Collection<?>> sink) {
-        state.forEach((c, v) -> sink.accept(v.getInserts()));
+        var active = new ArrayList<DomainContext<?>>();
+
+        for (var domainContext : state) {
+            if (domainContext != null && domainContext.isActive()) {
+                active.add(domainContext);
+            }
+        }
+
+        active.sort(COMPARATOR);
+        active.forEach(domainContext -> sink.accept(domainContext.getInserts()));
     }
 
     public <T> T get(@NonNull Class<T> domainClass, @NonNull Object key) {
         var domainContext = getDomainContext(domainClass);
-        return domainContext.getState().get(key);
+        return domainContext.get(key);
     }
 
     public <T> Collection<T> get(@NonNull Class<T> domainClass) {
@@ -68,9 +98,19 @@ public class ParserContext {
         return Collections.unmodifiableList(domainContext.getInserts());
     }
 
+    /**
+     * Returns whether the domain class has to be persisted in a specific order relative to other domain classes.
+     *
+     * @param domainClass the domain class
+     * @return true if the domain class is explicitly ordered
+     */
+    public boolean isOrdered(@NonNull Class<?> domainClass) {
+        return DomainClassComparator.ORDER.contains(domainClass);
+    }
+
     public <T> void merge(@NonNull Object key, @NonNull T value, @NonNull BinaryOperator<T> mergeFunction) {
         var domainContext = getDomainContext(value);
-        var merged = domainContext.getState().merge(key, value, mergeFunction);
+        var merged = domainContext.merge(key, value, mergeFunction);
 
         if (merged == value) {
             domainContext.getInserts().add(value);
@@ -90,20 +130,81 @@ public class ParserContext {
 
     @SuppressWarnings("unchecked")
     private <T> DomainContext<T> getDomainContext(Class<T> domainClass) {
-        return (DomainContext<T>) state.computeIfAbsent(domainClass, c -> new DomainContext<>());
+        int slot = SLOTS.get(domainClass);
+        var current = state;
+        var domainContext = slot < current.length ? (DomainContext<T>) current[slot] : null;
+
+        if (domainContext == null) {
+            domainContext = createDomainContext(domainClass, slot);
+        }
+
+        domainContext.setActive(true);
+        return domainContext;
+    }
+
+    @SuppressWarnings("unchecked")
+    private synchronized <T> DomainContext<T> createDomainContext(Class<T> domainClass, int slot) {
+        var current = state;
+
+        if (slot < current.length && current[slot] != null) {
+            return (DomainContext<T>) current[slot];
+        }
+
+        var domainContext = new DomainContext<>(domainClass);
+        var copy = Arrays.copyOf(current, Math.max(current.length, SLOT_COUNT.get()));
+        copy[slot] = domainContext;
+        state = copy;
+        return domainContext;
     }
 
-    private class DomainContext<T> {
+    private static class DomainContext<T> {
+
+        @Getter
+        private final Class<T> domainClass;
 
         @Getter
-        private final List<T> inserts = new ArrayList<>();
+        private List<T> inserts = new ArrayList<>();
 
-        @Getter(lazy = true)
+        private final LongObjectMap<T> longState = new LongObjectMap<>();
         private final Map<Object, T> state = new HashMap<>();
 
+        // Whether the domain class was used since the last reset
+        @Getter
+        @Setter
+        private boolean active;
+
+        DomainContext(Class<T> domainClass) {
+            this.domainClass = domainClass;
+        }
+
+        T get(Object key) {
+            if (key instanceof Long id) {
+                return longState.get(id);
+            }
+
+            return state.get(key);
+        }
+
+        T merge(Object key, T value, BinaryOperator<T> mergeFunction) {
+            if (key instanceof Long id) {
+                return longState.merge(id, value, mergeFunction);
+            }
+
+            return state.merge(key, value, mergeFunction);
+        }
+
         void clear() {
-            getInserts().clear();
-            getState().clear();
+            if (!inserts.isEmpty()) {
+                inserts = new ArrayList<>(inserts.size());
+            }
+
+            longState.clear();
+            state.clear();
+        }
+
+        void reset() {
+            clear();
+            active = false;
         }
     }
 }
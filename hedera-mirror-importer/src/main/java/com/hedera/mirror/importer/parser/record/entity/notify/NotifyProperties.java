@@ -26,6 +26,8 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties("hedera.mirror.importer.parser.record.entity.notify")
 public class NotifyProperties implements BatchPublisherProperties {
 
+    private boolean batch = false;
+
     private boolean enabled = false;
 
     private int maxJsonPayloadSize = 8000;
@@ -20,6 +20,7 @@ import static com.hedera.mirror.common.converter.ObjectToStringSerializer.OBJECT
 
 import com.google.common.base.Stopwatch;
 import com.hedera.mirror.common.domain.topic.TopicMessage;
+import com.hedera.mirror.common.domain.topic.TopicMessageCodec;
 import com.hedera.mirror.common.domain.transaction.RecordFile;
 import com.hedera.mirror.importer.parser.record.entity.BatchPublisher;
 import com.hedera.mirror.importer.parser.record.entity.ConditionOnEntityRecordParser;
@@ -28,7 +29,10 @@ import com.hedera.mirror.importer.util.Utility;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import jakarta.inject.Named;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Collection;
+import java.util.List;
 import lombok.CustomLog;
 import org.springframework.core.annotation.Order;
 import org.springframework.jdbc.core.JdbcTemplate;
@@ -70,7 +74,8 @@ public class NotifyingPublisher implements BatchPublisher {
         }
 
         var stopwatch = Stopwatch.createStarted();
-        timer.record(() -> jdbcTemplate.execute(SQL, callback(topicMessages)));
+        var callback = notifyProperties.isBatch() ? batchCallback(topicMessages) : callback(topicMessages);
+        timer.record(() -> jdbcTemplate.execute(SQL, callback));
         log.info("Finished notifying {} messages in {}", topicMessages.size(), stopwatch);
     }
 
@@ -87,6 +92,53 @@ public class NotifyingPublisher implements BatchPublisher {
         };
     }
 
+    private PreparedStatementCallback<int[]> batchCallback(Collection<TopicMessage> topicMessages) {
+        return preparedStatement -> {
+            for (String payload : toPayloads(topicMessages)) {
+                preparedStatement.setString(1, payload);
+                preparedStatement.addBatch();
+            }
+            return preparedStatement.executeBatch();
+        };
+    }
+
+    /*
+     * Packs the messages in order into as few binary encoded notifications as fit the max payload size. A message that
+     * doesn't fit into a notification on its own is sent as a reference for the listener to retrieve from the database.
+     */
+    private List<String> toPayloads(Collection<TopicMessage> topicMessages) {
+        var prefix = TopicMessageCodec.NOTIFY_BATCH_PREFIX;
+        int maxSize = (notifyProperties.getMaxJsonPayloadSize() - prefix.length() - 1) / 4 * 3; // Base64 expansion
+        var payloads = new ArrayList<String>();
+        var batch = new ArrayList<TopicMessage>();
+        int size = TopicMessageCodec.HEADER_SIZE;
+
+        for (var topicMessage : topicMessages) {
+            int messageSize = TopicMessageCodec.size(topicMessage);
+
+            if (size + messageSize > maxSize && !batch.isEmpty()) {
+                payloads.add(prefix + Base64.getEncoder().encodeToString(TopicMessageCodec.encode(batch)));
+                batch.clear();
+                size = TopicMessageCodec.HEADER_SIZE;
+            }
+
+            if (size + messageSize > maxSize) {
+                log.debug("Notifying a reference to large payload of size {}B: {}", messageSize, topicMessage);
+                payloads.add(TopicMessageCodec.NOTIFY_REFERENCE_PREFIX + topicMessage.getConsensusTimestamp());
+                continue;
+            }
+
+            batch.add(topicMessage);
+            size += messageSize;
+        }
+
+        if (!batch.isEmpty()) {
+            payloads.add(prefix + Base64.getEncoder().encodeToString(TopicMessageCodec.encode(batch)));
+        }
+
+        return payloads;
+    }
+
     private String toJson(TopicMessage topicMessage) {
         try {
             String json = OBJECT_MAPPER.writeValueAsString(topicMessage);
@@ -31,4 +31,9 @@ public class RedisProperties implements BatchPublisherProperties {
 
     @Min(1)
     private int queueCapacity = 8;
+
+    private boolean stream = false;
+
+    @Min(1)
+    private long streamMaxLength = 10_000L;
 }
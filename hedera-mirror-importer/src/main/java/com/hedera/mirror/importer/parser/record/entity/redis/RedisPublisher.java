@@ -21,6 +21,7 @@ import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.google.common.base.Stopwatch;
 import com.hedera.mirror.common.domain.topic.StreamMessage;
 import com.hedera.mirror.common.domain.topic.TopicMessage;
+import com.hedera.mirror.common.domain.topic.TopicMessageCodec;
 import com.hedera.mirror.common.domain.transaction.RecordFile;
 import com.hedera.mirror.importer.parser.record.entity.BatchPublisher;
 import com.hedera.mirror.importer.parser.record.entity.ConditionOnEntityRecordParser;
@@ -28,7 +29,9 @@ import com.hedera.mirror.importer.parser.record.entity.ParserContext;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import jakarta.inject.Named;
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
+import java.util.Map;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Executor;
@@ -36,6 +39,9 @@ import java.util.concurrent.Executors;
 import lombok.CustomLog;
 import lombok.SneakyThrows;
 import org.springframework.core.annotation.Order;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.SessionCallback;
 
@@ -45,6 +51,8 @@ import org.springframework.data.redis.core.SessionCallback;
 @Order(0) // Triggering the async publishing before other operations can reduce latency
 public class RedisPublisher implements BatchPublisher {
 
+    private static final byte[] STREAM_FIELD = TopicMessageCodec.STREAM_FIELD.getBytes(StandardCharsets.UTF_8);
+    private static final byte[] STREAM_KEY = TopicMessageCodec.STREAM_KEY.getBytes(StandardCharsets.UTF_8);
     private static final String TOPIC_FORMAT = "topic.%d";
 
     private final LoadingCache<Long, String> channelNames;
@@ -96,7 +104,13 @@ public class RedisPublisher implements BatchPublisher {
     private void publish(Collection<TopicMessage> messages) {
         try {
             Stopwatch stopwatch = Stopwatch.createStarted();
-            timer.record(() -> redisOperations.executePipelined(callback(messages)));
+
+            if (redisProperties.isStream()) {
+                timer.record(() -> redisOperations.execute(streamCallback(messages)));
+            } else {
+                timer.record(() -> redisOperations.executePipelined(callback(messages)));
+            }
+
             log.info("Finished notifying {} messages in {}", messages.size(), stopwatch);
         } catch (Exception e) {
             log.error("Unable to publish to redis", e);
@@ -117,6 +131,15 @@ public class RedisPublisher implements BatchPublisher {
         };
     }
 
+    // Append the whole batch as a single entry to a stream that consumers can resume reading from after a reconnect
+    private RedisCallback<Object> streamCallback(Collection<TopicMessage> messages) {
+        var options = XAddOptions.maxlen(redisProperties.getStreamMaxLength()).approximateTrimming(true);
+        return connection -> {
+            var record = MapRecord.create(STREAM_KEY, Map.of(STREAM_FIELD, TopicMessageCodec.encode(messages)));
+            return connection.streamCommands().xAdd(record, options);
+        };
+    }
+
     private String getChannelName(Long id) {
         return String.format(TOPIC_FORMAT, id);
     }
@@ -17,6 +17,7 @@
 package com.hedera.mirror.importer.parser.record.entity.sql;
 
 import com.hedera.mirror.importer.parser.record.entity.ConditionOnEntityRecordParser;
+import jakarta.validation.constraints.Min;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -26,4 +27,7 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 public class SqlProperties {
 
     private boolean enabled = true;
+
+    @Min(0)
+    private int parallelism = 0;
 }
@@ -18,6 +18,12 @@ package com.hedera.mirror.importer.reader.record;
 
 import static java.lang.String.format;
 
+import com.google.common.primitives.Ints;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.WireFormat;
 import com.hedera.mirror.common.domain.DigestAlgorithm;
 import com.hedera.mirror.common.domain.transaction.RecordFile;
 import com.hedera.mirror.common.domain.transaction.RecordItem;
@@ -29,20 +35,23 @@ import com.hedera.mirror.importer.exception.InvalidStreamFileException;
 import com.hedera.mirror.importer.exception.StreamFileReaderException;
 import com.hedera.services.stream.proto.HashAlgorithm;
 import com.hedera.services.stream.proto.RecordStreamFile;
+import com.hedera.services.stream.proto.RecordStreamItem;
 import jakarta.inject.Named;
-import java.io.DataInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.security.DigestOutputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.stream.Stream;
 import lombok.CustomLog;
+import lombok.RequiredArgsConstructor;
 import org.apache.commons.io.output.NullOutputStream;
 import org.springframework.data.util.Version;
 import reactor.core.publisher.Flux;
@@ -53,13 +62,18 @@ public class ProtoRecordFileReader implements RecordFileReader {
 
     public static final int VERSION = 6;
 
+    private static final int RECORD_STREAM_ITEM_TAG = WireFormat.makeTag(
+            RecordStreamFile.RECORD_STREAM_ITEMS_FIELD_NUMBER, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+
     @Override
     public RecordFile read(StreamFileData streamFileData) {
         var filename = streamFileData.getFilename();
         var loadStart = Instant.now().getEpochSecond();
 
-        try (var inputStream = streamFileData.getInputStream()) {
-            var recordStreamFile = readRecordStreamFile(filename, inputStream);
+        try {
+            var decompressedBytes = streamFileData.getDecompressedBytes();
+            var items = new ArrayList<ByteString>();
+            var recordStreamFile = readRecordStreamFile(filename, decompressedBytes, items);
             var startObjectRunningHash = recordStreamFile.getStartObjectRunningHash();
             var endObjectRunningHash = recordStreamFile.getEndObjectRunningHash();
             var startHashAlgorithm = startObjectRunningHash.getAlgorithm();
@@ -73,27 +87,33 @@ public class ProtoRecordFileReader implements RecordFileReader {
                         endHashAlgorithm);
             }
 
-            var bytes = streamFileData.getBytes();
-            var items = readItems(filename, recordStreamFile);
             int count = items.size();
-            long consensusEnd = items.get(count - 1).getConsensusTimestamp();
+            if (count == 0) {
+                throw new InvalidStreamFileException("No record stream objects in record file " + filename);
+            }
+
+            var bytes = streamFileData.getBytes();
+            long consensusStart = getConsensusTimestamp(items.get(0));
+            long consensusEnd = getConsensusTimestamp(items.get(count - 1));
             var digestAlgorithm = getDigestAlgorithm(filename, startHashAlgorithm, endHashAlgorithm);
             var hapiProtoVersion = recordStreamFile.getHapiProtoVersion();
+            var hapiVersion =
+                    new Version(hapiProtoVersion.getMajor(), hapiProtoVersion.getMinor(), hapiProtoVersion.getPatch());
             var sidecars = getSidecars(consensusEnd, recordStreamFile, streamFileData.getStreamFilename());
 
             return RecordFile.builder()
                     .bytes(bytes)
-                    .consensusStart(items.get(0).getConsensusTimestamp())
+                    .consensusStart(consensusStart)
                     .consensusEnd(consensusEnd)
                     .count((long) count)
                     .digestAlgorithm(digestAlgorithm)
-                    .fileHash(getFileHash(digestAlgorithm, streamFileData.getDecompressedBytes()))
+                    .fileHash(getFileHash(digestAlgorithm, decompressedBytes))
                     .hapiVersionMajor(hapiProtoVersion.getMajor())
                     .hapiVersionMinor(hapiProtoVersion.getMinor())
                     .hapiVersionPatch(hapiProtoVersion.getPatch())
                     .hash(DomainUtils.bytesToHex(DomainUtils.getHashBytes(endObjectRunningHash)))
                     .index(recordStreamFile.getBlockNumber())
-                    .items(Flux.fromIterable(items))
+                    .items(Flux.fromIterable(() -> new RecordItemIterator(filename, hapiVersion, items)))
                     .loadStart(loadStart)
                     .metadataHash(getMetadataHash(digestAlgorithm, recordStreamFile))
                     .name(filename)
@@ -178,41 +198,83 @@ public class ProtoRecordFileReader implements RecordFileReader {
         }
     }
 
-    private List<RecordItem> readItems(String filename, RecordStreamFile recordStreamFile) {
-        int count = recordStreamFile.getRecordStreamItemsCount();
-        if (count == 0) {
-            throw new InvalidStreamFileException("No record stream objects in record file " + filename);
+    private long getConsensusTimestamp(ByteString item) throws IOException {
+        var transactionRecord = RecordStreamItem.parseFrom(item).getRecord();
+        return DomainUtils.timestampInNanosMax(transactionRecord.getConsensusTimestamp());
+    }
+
+    /**
+     * Reads the record stream file without parsing its record stream items. The items are collected as views into the
+     * decompressed bytes and the returned RecordStreamFile contains every other field. Since the views share the
+     * decompressed bytes, the whole array stays reachable until every item has been consumed.
+     */
+    private RecordStreamFile readRecordStreamFile(String filename, byte[] bytes, List<ByteString> items)
+            throws IOException {
+        if (bytes.length < Integer.BYTES) {
+            throw new InvalidStreamFileException("Error reading record file " + filename);
         }
 
-        var hapiProtoVersion = recordStreamFile.getHapiProtoVersion();
-        var hapiVersion =
-                new Version(hapiProtoVersion.getMajor(), hapiProtoVersion.getMinor(), hapiProtoVersion.getPatch());
-        var items = new ArrayList<RecordItem>(count);
-        RecordItem previousItem = null;
-        for (var recordStreamItem : recordStreamFile.getRecordStreamItemsList()) {
-            var recordItem = RecordItem.builder()
-                    .hapiVersion(hapiVersion)
-                    .previous(previousItem)
-                    .transactionRecord(recordStreamItem.getRecord())
-                    .transaction(recordStreamItem.getTransaction())
-                    .transactionIndex(items.size())
-                    .build();
-            items.add(recordItem);
-            previousItem = recordItem;
+        int version = Ints.fromByteArray(bytes);
+        if (version != VERSION) {
+            throw new InvalidStreamFileException(
+                    format("Expected file %s with version %d, got %d.", filename, VERSION, version));
         }
 
-        return items;
+        var input = CodedInputStream.newInstance(bytes, Integer.BYTES, bytes.length - Integer.BYTES);
+        input.enableAliasing(true);
+        var metadata = new ByteArrayOutputStream();
+        var output = CodedOutputStream.newInstance(metadata);
+
+        for (int tag = input.readTag(); tag != 0; tag = input.readTag()) {
+            if (tag == RECORD_STREAM_ITEM_TAG) {
+                items.add(input.readBytes());
+            } else {
+                input.skipField(tag, output);
+            }
+        }
+
+        output.flush();
+        return RecordStreamFile.parseFrom(metadata.toByteArray());
     }
 
-    private RecordStreamFile readRecordStreamFile(String filename, InputStream inputStream) throws IOException {
-        try (var dataInputStream = new DataInputStream(inputStream)) {
-            int version = dataInputStream.readInt();
-            if (version != VERSION) {
-                throw new InvalidStreamFileException(
-                        format("Expected file %s with version %d, got %d.", filename, VERSION, version));
+    /**
+     * Decodes one record stream item at a time as the items are consumed. Only the previous item is retained to link
+     * children to their parent, so the decoded items can be collected once processed. Each item is still fully parsed,
+     * including its transaction body, when its RecordItem is built.
+     */
+    @RequiredArgsConstructor
+    private static class RecordItemIterator implements Iterator<RecordItem> {
+
+        private final String filename;
+        private final Version hapiVersion;
+        private final List<ByteString> items;
+        private int index = 0;
+        private RecordItem previous;
+
+        @Override
+        public boolean hasNext() {
+            return index < items.size();
+        }
+
+        @Override
+        public RecordItem next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
             }
 
-            return RecordStreamFile.parseFrom(dataInputStream);
+            try {
+                var recordStreamItem = RecordStreamItem.parseFrom(items.get(index));
+                previous = RecordItem.builder()
+                        .hapiVersion(hapiVersion)
+                        .previous(previous)
+                        .transactionRecord(recordStreamItem.getRecord())
+                        .transaction(recordStreamItem.getTransaction())
+                        .transactionIndex(index++)
+                        .build();
+                return previous;
+            } catch (InvalidProtocolBufferException e) {
+                throw new InvalidStreamFileException("Error reading record stream item in record file " + filename, e);
+            }
         }
     }
 }
@@ -26,8 +26,9 @@ import lombok.Value;
 import org.apache.commons.lang3.StringUtils;
 
 @Value
-class ColumnMetadata implements Comparable<ColumnMetadata> {
+public class ColumnMetadata implements Comparable<ColumnMetadata> {
 
+    private final String dataType;
     private final Object defaultValue;
 
     @ToString.Exclude
@@ -23,10 +23,11 @@ import java.util.stream.Collectors;
 import lombok.Value;
 
 /**
- * Contains the metadata associated with an @Upsertable entity. Used to generate dynamic upsert SQL.
+ * Contains the metadata associated with an entity. Used to generate dynamic upsert SQL for @Upsertable entities and
+ * binary COPY encoders for insert-only entities.
  */
 @Value
-class EntityMetadata {
+public class EntityMetadata {
 
     private final String tableName;
     private final Upsertable upsertable;
@@ -0,0 +1,179 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.util;
+
+import java.util.Arrays;
+import java.util.function.BinaryOperator;
+import java.util.function.LongFunction;
+
+/**
+ * An open addressing hash map with primitive long keys and linear probing. It avoids boxing ids and consensus timestamps
+ * that are used as keys on hot paths. A null value marks an empty slot, so null values are not
+ * supported. Not thread-safe.
+ *
+ * @param <V> the type of the values
+ */
+public class LongObjectMap<V> {
+
+    private static final int DEFAULT_CAPACITY = 64;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private long[] keys;
+    private Object[] values;
+    private int mask;
+    private int size;
+
+    public LongObjectMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public LongObjectMap(int capacity) {
+        allocate(Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1);
+    }
+
+    public void clear() {
+        if (size > 0) {
+            Arrays.fill(values, null);
+            size = 0;
+        }
+    }
+
+    /**
+     * Returns the value associated with the key, otherwise associates and returns the value computed by the mapping
+     * function.
+     *
+     * @param key             the key
+     * @param mappingFunction the function to compute a non-null value for an absent key
+     * @return the existing or computed value
+     */
+    @SuppressWarnings("unchecked")
+    public V computeIfAbsent(long key, LongFunction<? extends V> mappingFunction) {
+        int i = index(key);
+
+        for (; values[i] != null; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                return (V) values[i];
+            }
+        }
+
+        V value = mappingFunction.apply(key);
+        keys[i] = key;
+        values[i] = value;
+
+        if (++size > (mask + 1) * LOAD_FACTOR) {
+            resize();
+        }
+
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        for (int i = index(key); ; i = (i + 1) & mask) {
+            var value = values[i];
+            if (value == null || keys[i] == key) {
+                return (V) value;
+            }
+        }
+    }
+
+    /**
+     * Associates the value with the key if absent, otherwise replaces the existing value with the result of the merge
+     * function or removes it if the result is null.
+     *
+     * @param key           the key
+     * @param value         the value to merge
+     * @param mergeFunction the function to merge the existing value with the value
+     * @return the new value associated with the key or null if it was removed
+     */
+    @SuppressWarnings("unchecked")
+    public V merge(long key, V value, BinaryOperator<V> mergeFunction) {
+        int i = index(key);
+
+        for (; values[i] != null; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                var merged = mergeFunction.apply((V) values[i], value);
+
+                if (merged == null) {
+                    remove(i);
+                } else {
+                    values[i] = merged;
+                }
+
+                return merged;
+            }
+        }
+
+        keys[i] = key;
+        values[i] = value;
+
+        if (++size > (mask + 1) * LOAD_FACTOR) {
+            resize();
+        }
+
+        return value;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+    }
+
+    private int index(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    // Shifts back the following entries of the probe sequence so lookups don't stop at the removed slot
+    private void remove(int slot) {
+        size--;
+
+        for (int i = (slot + 1) & mask; values[i] != null; i = (i + 1) & mask) {
+            int home = index(keys[i]);
+
+            if (((i - home) & mask) >= ((i - slot) & mask)) {
+                keys[slot] = keys[i];
+                values[slot] = values[i];
+                slot = i;
+            }
+        }
+
+        values[slot] = null;
+    }
+
+    private void resize() {
+        var oldKeys = keys;
+        var oldValues = values;
+        allocate(oldKeys.length << 1);
+
+        for (int j = 0; j < oldKeys.length; j++) {
+            if (oldValues[j] != null) {
+                int i = index(oldKeys[j]);
+                while (values[i] != null) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = oldKeys[j];
+                values[i] = oldValues[j];
+            }
+        }
+    }
+}
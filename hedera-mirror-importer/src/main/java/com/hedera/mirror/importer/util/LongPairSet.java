@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.util;
+
+import java.util.Arrays;
+
+/**
+ * An open addressing hash set of primitive long pairs with linear probing. It avoids allocating a composite key object
+ * per entry when deduplicating by two ids on hot paths. Not thread-safe.
+ */
+public class LongPairSet {
+
+    private static final int DEFAULT_CAPACITY = 64;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private long[] keys;
+    private boolean[] used;
+    private int mask;
+    private int size;
+
+    public LongPairSet() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public LongPairSet(int capacity) {
+        allocate(Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1);
+    }
+
+    /**
+     * Adds the pair to the set if absent.
+     *
+     * @param first  the first element of the pair
+     * @param second the second element of the pair
+     * @return true if the pair was added, false if it was already present
+     */
+    public boolean add(long first, long second) {
+        int i = index(first, second);
+
+        for (; used[i]; i = (i + 1) & mask) {
+            if (keys[i << 1] == first && keys[(i << 1) + 1] == second) {
+                return false;
+            }
+        }
+
+        used[i] = true;
+        keys[i << 1] = first;
+        keys[(i << 1) + 1] = second;
+
+        if (++size > (mask + 1) * LOAD_FACTOR) {
+            resize();
+        }
+
+        return true;
+    }
+
+    public void clear() {
+        if (size > 0) {
+            Arrays.fill(used, false);
+            size = 0;
+        }
+    }
+
+    public boolean contains(long first, long second) {
+        for (int i = index(first, second); used[i]; i = (i + 1) & mask) {
+            if (keys[i << 1] == first && keys[(i << 1) + 1] == second) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity << 1];
+        used = new boolean[capacity];
+        mask = capacity - 1;
+    }
+
+    private int index(long first, long second) {
+        long hash = (first * 31 + second) * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private void resize() {
+        var oldKeys = keys;
+        var oldUsed = used;
+        allocate(oldUsed.length << 1);
+
+        for (int j = 0; j < oldUsed.length; j++) {
+            if (oldUsed[j]) {
+                long first = oldKeys[j << 1];
+                long second = oldKeys[(j << 1) + 1];
+                int i = index(first, second);
+                while (used[i]) {
+                    i = (i + 1) & mask;
+                }
+                used[i] = true;
+                keys[i << 1] = first;
+                keys[(i << 1) + 1] = second;
+            }
+        }
+    }
+}
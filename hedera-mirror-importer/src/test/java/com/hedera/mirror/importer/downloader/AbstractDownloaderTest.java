@@ -92,6 +92,7 @@ import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
@@ -250,7 +251,7 @@ public abstract class AbstractDownloaderTest<T extends StreamFile<?>> {
         signatureFileReader = new CompositeSignatureFileReader(
                 new SignatureFileReaderV2(), new SignatureFileReaderV5(), new ProtoSignatureFileReader());
         var consensusValidator = new ConsensusValidatorImpl(commonDownloaderProperties);
-        nodeSignatureVerifier = new NodeSignatureVerifier(consensusValidator);
+        nodeSignatureVerifier = new NodeSignatureVerifier(commonDownloaderProperties, consensusValidator);
         downloader = getDownloader();
         streamType = downloaderProperties.getStreamType();
 
@@ -325,6 +326,30 @@ public abstract class AbstractDownloaderTest<T extends StreamFile<?>> {
         assertThat(importerProperties.getDataPath()).isEmptyDirectory();
     }
 
+    @ParameterizedTest(name = "Download and verify files with prefetch: {0}")
+    @ValueSource(ints = {1, 2, 10})
+    void downloadWithPrefetch(int prefetch) {
+        commonDownloaderProperties.setPrefetch(prefetch);
+        importerProperties.setStartBlockNumber(null);
+        fileCopier.copy();
+
+        expectLastStreamFile(Instant.EPOCH);
+        downloader.download();
+
+        verifyForSuccess();
+    }
+
+    @Test
+    @DisplayName("Signature doesn't match file with prefetch")
+    void signatureMismatchWithPrefetch() throws Exception {
+        commonDownloaderProperties.setPrefetch(2);
+        fileCopier.copy();
+        Files.walk(s3Path).filter(this::isSigFile).forEach(AbstractDownloaderTest::corruptFile);
+        expectLastStreamFile(Instant.EPOCH);
+        downloader.download();
+        verifyUnsuccessful();
+    }
+
     @Test
     @DisplayName("Non-unanimous consensus reached")
     void partialConsensus() throws IOException {
@@ -581,6 +606,22 @@ public abstract class AbstractDownloaderTest<T extends StreamFile<?>> {
         verifyForSuccess();
     }
 
+    @Test
+    void streamFilesCorruptedExceptSkippedNode() throws Exception {
+        // Nodes with equal stake are verified in order, so the last node is skipped once consensus is reached
+        commonDownloaderProperties.setVerificationParallelism(1);
+        var intactNodeAccountId = Iterables.getLast(nodes).getNodeAccountId().toString();
+        importerProperties.setStartBlockNumber(null);
+        fileCopier.copy();
+        Files.walk(s3Path)
+                .filter(Predicate.not(this::isSigFile))
+                .filter(p -> !p.toString().contains(intactNodeAccountId))
+                .forEach(AbstractDownloaderTest::corruptFile);
+        expectLastStreamFile(Instant.EPOCH);
+        downloader.download();
+        verifyForSuccess();
+    }
+
     @Test
     @DisplayName("Max download items reached")
     void maxDownloadItemsReached() {
@@ -16,10 +16,13 @@
 
 package com.hedera.mirror.importer.downloader;
 
+import static com.hedera.mirror.importer.domain.StreamFileSignature.SignatureStatus.CONSENSUS_REACHED;
 import static com.hedera.mirror.importer.domain.StreamFileSignature.SignatureStatus.DOWNLOADED;
+import static com.hedera.mirror.importer.domain.StreamFileSignature.SignatureStatus.SKIPPED;
 import static com.hedera.mirror.importer.domain.StreamFileSignature.SignatureStatus.VERIFIED;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
 
 import com.hedera.mirror.common.domain.StreamType;
 import com.hedera.mirror.common.domain.entity.EntityId;
@@ -75,7 +78,7 @@ class NodeSignatureVerifierTest {
         commonDownloaderProperties = new CommonDownloaderProperties(new ImporterProperties());
         commonDownloaderProperties.setConsensusRatio(
                 BigDecimal.ONE.divide(BigDecimal.valueOf(3), 19, RoundingMode.DOWN));
-        nodeSignatureVerifier = new NodeSignatureVerifier(consensusValidator);
+        nodeSignatureVerifier = new NodeSignatureVerifier(commonDownloaderProperties, consensusValidator);
         signer = Signature.getInstance("SHA384withRSA", "SunRsaSign");
         signer.initSign(privateKey);
         consensusValidator.validate(any());
@@ -123,6 +126,59 @@ class NodeSignatureVerifierTest {
                 .containsExactly(VERIFIED, VERIFIED, DOWNLOADED);
     }
 
+    @Test
+    void concurrentShortCircuit() {
+        commonDownloaderProperties.setVerificationParallelism(1);
+        when(consensusValidator.getStakeRequiredForConsensus(6L)).thenReturn(BigDecimal.TWO);
+        var fileHash = TestUtils.generateRandomByteArray(48);
+        var signature1 = streamFileSignature(fileHash, 1L);
+        var signature2 = streamFileSignature(fileHash, 3L);
+        var signature3 = streamFileSignature(fileHash, 2L);
+        var signatures = List.of(signature1, signature2, signature3);
+
+        nodeSignatureVerifier.verify(signatures);
+        assertThat(signatures)
+                .extracting(StreamFileSignature::getStatus)
+                .containsExactly(SKIPPED, VERIFIED, SKIPPED);
+    }
+
+    @Test
+    void concurrentPartialFailure() {
+        commonDownloaderProperties.setVerificationParallelism(2);
+        when(consensusValidator.getStakeRequiredForConsensus(6L)).thenReturn(BigDecimal.valueOf(6L));
+        var fileHash = TestUtils.generateRandomByteArray(48);
+        var signature1 = streamFileSignature(fileHash, 1L);
+        var signature2 = streamFileSignature(fileHash, 2L);
+        var signature3 = streamFileSignature(fileHash, 3L);
+        signature3.setFileHashSignature(corruptSignature(signature3.getFileHashSignature()));
+        var signatures = List.of(signature1, signature2, signature3);
+
+        nodeSignatureVerifier.verify(signatures);
+        assertThat(signatures)
+                .extracting(StreamFileSignature::getStatus)
+                .containsExactly(VERIFIED, VERIFIED, DOWNLOADED);
+    }
+
+    @Test
+    void verifySkipped() {
+        var fileHash = TestUtils.generateRandomByteArray(48);
+        var signature1 = streamFileSignature(fileHash, 1L);
+        var signature2 = streamFileSignature(fileHash, 2L);
+        var signature3 = streamFileSignature(fileHash, 3L);
+        var signature4 = streamFileSignature();
+        signature1.setStatus(CONSENSUS_REACHED);
+        signature2.setStatus(SKIPPED);
+        signature3.setStatus(SKIPPED);
+        signature3.setFileHashSignature(corruptSignature(signature3.getFileHashSignature()));
+        signature4.setStatus(SKIPPED);
+        var signatures = List.of(signature1, signature2, signature3, signature4);
+
+        nodeSignatureVerifier.verifySkipped(signatures);
+        assertThat(signatures)
+                .extracting(StreamFileSignature::getStatus)
+                .containsExactly(CONSENSUS_REACHED, CONSENSUS_REACHED, DOWNLOADED, VERIFIED);
+    }
+
     @Test
     void invalidFileSignature() {
         var signature = streamFileSignature();
@@ -203,11 +259,17 @@ class NodeSignatureVerifierTest {
     }
 
     private StreamFileSignature streamFileSignature() {
-        var fileHash = TestUtils.generateRandomByteArray(48);
+        return streamFileSignature(TestUtils.generateRandomByteArray(48), 0L);
+    }
+
+    private StreamFileSignature streamFileSignature(byte[] fileHash, long stake) {
         var metadataHash = TestUtils.generateRandomByteArray(48);
         var node = ConsensusNodeStub.builder()
                 .nodeAccountId(EntityId.of("0.0.3"))
+                .nodeId(stake)
                 .publicKey(publicKey)
+                .stake(stake)
+                .totalStake(6L)
                 .build();
 
         StreamFileSignature streamFileSignature = new StreamFileSignature();
@@ -23,9 +23,13 @@ import com.hedera.mirror.common.domain.StreamType;
 import com.hedera.mirror.importer.FileCopier;
 import com.hedera.mirror.importer.TestUtils;
 import com.hedera.mirror.importer.addressbook.ConsensusNode;
+import com.hedera.mirror.importer.domain.StreamFileData;
+import com.hedera.mirror.importer.domain.StreamFilename;
 import java.net.URI;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Properties;
 import java.util.concurrent.ForkJoinPool;
 import org.gaul.s3proxy.S3Proxy;
@@ -34,6 +38,8 @@ import org.jclouds.ContextBuilder;
 import org.jclouds.blobstore.BlobStoreContext;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
 import software.amazon.awssdk.auth.credentials.AnonymousCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
@@ -68,6 +74,66 @@ class S3StreamFileProviderTest extends AbstractStreamFileProviderTest {
         startS3Proxy();
     }
 
+    @Test
+    void listPrefetch() {
+        properties.setBatchSize(1);
+        properties.setListPrefetch(true);
+        var node = node("0.0.3");
+        getFileCopier(node).copy();
+        var sig1 = streamFileData(node, "2022-07-13T08_46_08.041986003Z.rcd_sig");
+        var sig2 = streamFileData(node, "2022-07-13T08_46_11.304284003Z.rcd_sig");
+
+        StepVerifier.create(streamFileProvider.list(node, StreamFilename.EPOCH))
+                .expectNext(sig1)
+                .expectComplete()
+                .verify(Duration.ofSeconds(10L));
+
+        // Uses the prefetched page since the position caught up to the end of the previous page
+        StepVerifier.create(streamFileProvider.list(node, sig1.getStreamFilename()))
+                .expectNext(sig2)
+                .expectComplete()
+                .verify(Duration.ofSeconds(10L));
+
+        // Lists again from the requested position since it's before the end of the previous page
+        StepVerifier.create(streamFileProvider.list(node, StreamFilename.EPOCH))
+                .expectNext(sig1)
+                .expectComplete()
+                .verify(Duration.ofSeconds(10L));
+    }
+
+    @Test
+    void listPrefetchIgnoresEmptyPage() throws Exception {
+        properties.setBatchSize(1);
+        properties.setListPrefetch(true);
+        var node = node("0.0.3");
+        var fileCopier = getFileCopier(node);
+        fileCopier.copy();
+        var sig1 = streamFileData(node, "2022-07-13T08_46_08.041986003Z.rcd_sig");
+        var sig2 = streamFileData(node, "2022-07-13T08_46_11.304284003Z.rcd_sig");
+
+        StepVerifier.create(streamFileProvider.list(node, StreamFilename.EPOCH))
+                .expectNext(sig1)
+                .expectComplete()
+                .verify(Duration.ofSeconds(10L));
+        StepVerifier.create(streamFileProvider.list(node, sig1.getStreamFilename()))
+                .expectNext(sig2)
+                .expectComplete()
+                .verify(Duration.ofSeconds(10L));
+
+        // A file uploaded after the page following sig2 was prefetched is still found
+        var filename = "2022-07-13T08_46_14.000000000Z.rcd_sig";
+        var nodePath = fileCopier.getTo().resolve(nodePath(node));
+        Files.copy(nodePath.resolve(sig1.getFilename()), nodePath.resolve(filename));
+        var streamFilename =
+                StreamFilename.from(resolveProviderRelativePath(node, filename), getProviderPathSeparator());
+        var sig3 = new StreamFileData(streamFilename, sig1.getBytes(), Instant.now());
+
+        StepVerifier.create(streamFileProvider.list(node, sig2.getStreamFilename()))
+                .expectNext(sig3)
+                .expectComplete()
+                .verify(Duration.ofSeconds(10L));
+    }
+
     @Override
     protected FileCopier createFileCopier(Path dataPath) {
         var fromPath = Path.of("data", "recordstreams", "v6");
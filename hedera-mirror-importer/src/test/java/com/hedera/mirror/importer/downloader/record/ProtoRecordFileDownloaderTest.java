@@ -149,6 +149,18 @@ class ProtoRecordFileDownloaderTest extends AbstractRecordFileDownloaderTest {
         assertThat(importerProperties.getDataPath()).isEmptyDirectory();
     }
 
+    @Test
+    void sidecarFileCorruptedWithPrefetch() throws IOException {
+        commonDownloaderProperties.setPrefetch(2);
+        fileCopier.copy();
+        Files.walk(s3Path).filter(p -> p.endsWith(SIDECAR_FILENAME)).forEach(AbstractDownloaderTest::corruptFile);
+        expectLastStreamFile(Instant.EPOCH);
+        downloader.download();
+
+        verifyForSuccess(List.of(file1));
+        assertThat(importerProperties.getDataPath()).isEmptyDirectory();
+    }
+
     @Test
     void sidecarFileHashMismatch() throws IOException {
         try (var byteArrayOutputStream = new ByteArrayOutputStream();
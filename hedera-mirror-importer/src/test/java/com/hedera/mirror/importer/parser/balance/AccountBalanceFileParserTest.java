@@ -96,6 +96,39 @@ class AccountBalanceFileParserTest extends ImporterIntegrationTest {
         parserProperties.setBatchSize(batchSize);
     }
 
+    @Test
+    void columnar() {
+        // given
+        parserProperties.setColumnar(true);
+        var accountBalanceFile = accountBalanceFile(1);
+        var items = accountBalanceFile.getItems().collectList().block();
+
+        // when
+        accountBalanceFileParser.parse(accountBalanceFile);
+
+        // then
+        assertAccountBalanceFile(accountBalanceFile, items);
+        parserProperties.setColumnar(false);
+    }
+
+    @Test
+    void columnarMultipleBatches() {
+        // given
+        int batchSize = parserProperties.getBatchSize();
+        parserProperties.setBatchSize(2);
+        parserProperties.setColumnar(true);
+        var accountBalanceFile = accountBalanceFile(1);
+        var items = accountBalanceFile.getItems().collectList().block();
+
+        // when
+        accountBalanceFileParser.parse(accountBalanceFile);
+
+        // then
+        assertAccountBalanceFile(accountBalanceFile, items);
+        parserProperties.setBatchSize(batchSize);
+        parserProperties.setColumnar(false);
+    }
+
     @Test
     void duplicateFile() {
         // given
@@ -0,0 +1,158 @@
+/*
+ * Copyright (C) 2020-2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.batch;
+
+import static com.hedera.mirror.common.util.CommonUtils.nextBytes;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.mirror.common.domain.contract.ContractLog;
+import com.hedera.mirror.common.domain.contract.ContractStateChange;
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.transaction.AssessedCustomFee;
+import com.hedera.mirror.common.domain.transaction.CryptoTransfer;
+import com.hedera.mirror.common.domain.transaction.ErrataType;
+import com.hedera.mirror.common.domain.transaction.Transaction;
+import com.hedera.mirror.importer.ImporterIntegrationTest;
+import com.hedera.mirror.importer.parser.CommonParserProperties;
+import com.hedera.mirror.importer.repository.ContractLogRepository;
+import com.hedera.mirror.importer.repository.ContractStateChangeRepository;
+import com.hedera.mirror.importer.repository.CryptoTransferRepository;
+import com.hedera.mirror.importer.repository.TopicMessageRepository;
+import com.hedera.mirror.importer.repository.upsert.EntityMetadataRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Collection;
+import java.util.List;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+
+@RequiredArgsConstructor
+class BinaryBatchInserterTest extends ImporterIntegrationTest {
+
+    private final ContractLogRepository contractLogRepository;
+    private final ContractStateChangeRepository contractStateChangeRepository;
+    private final CryptoTransferRepository cryptoTransferRepository;
+    private final DataSource dataSource;
+    private final EntityMetadataRegistry entityMetadataRegistry;
+    private final TopicMessageRepository topicMessageRepository;
+
+    @Test
+    void persistContractLogs() {
+        var contractLogs = List.of(
+                domainBuilder.contractLog().get(),
+                domainBuilder.contractLog().customize(c -> c.topic1(null).data(new byte[0])).get());
+
+        persist(contractLogs);
+
+        assertThat(contractLogRepository.findAll()).containsExactlyInAnyOrderElementsOf(contractLogs);
+    }
+
+    @Test
+    void persistContractStateChanges() {
+        var contractStateChanges = List.of(
+                domainBuilder.contractStateChange().get(),
+                domainBuilder
+                        .contractStateChange()
+                        .customize(c -> c.migration(true).valueWritten(null))
+                        .get());
+
+        persist(contractStateChanges);
+
+        assertThat(contractStateChangeRepository.findAll()).containsExactlyInAnyOrderElementsOf(contractStateChanges);
+    }
+
+    @Test
+    void persistCryptoTransfers() {
+        var cryptoTransfers = List.of(
+                domainBuilder.cryptoTransfer().get(),
+                domainBuilder
+                        .cryptoTransfer()
+                        .customize(c -> c.errata(ErrataType.INSERT).isApproval(null))
+                        .get(),
+                domainBuilder
+                        .cryptoTransfer()
+                        .customize(c -> c.payerAccountId(EntityId.EMPTY))
+                        .get());
+
+        persist(cryptoTransfers);
+
+        assertThat(cryptoTransferRepository.findAll())
+                .usingRecursiveFieldByFieldElementComparatorIgnoringFields("payerAccountId")
+                .containsExactlyInAnyOrderElementsOf(cryptoTransfers);
+        assertThat(jdbcOperations.queryForObject(
+                        "select count(*) from crypto_transfer where payer_account_id is null", Integer.class))
+                .isOne();
+    }
+
+    @Test
+    void persistLargerThanBuffer() {
+        var topicMessages = List.of(
+                domainBuilder
+                        .topicMessage()
+                        .customize(t -> t.message(nextBytes(10000)))
+                        .get(),
+                domainBuilder
+                        .topicMessage()
+                        .customize(t -> t.message(nextBytes(6000)))
+                        .get());
+        var properties = new CommonParserProperties();
+        properties.setBufferSize(8192);
+
+        persist(topicMessages, properties);
+
+        assertThat(topicMessageRepository.findAll()).containsExactlyInAnyOrderElementsOf(topicMessages);
+    }
+
+    @Test
+    void persistArrays() {
+        var assessedCustomFees = List.of(
+                domainBuilder.assessedCustomFee().get(),
+                domainBuilder
+                        .assessedCustomFee()
+                        .customize(a -> a.effectivePayerAccountIds(List.of()))
+                        .get(),
+                domainBuilder
+                        .assessedCustomFee()
+                        .customize(a -> a.effectivePayerAccountIds(List.of(1L, 2L, 3L)))
+                        .get());
+
+        persist(assessedCustomFees);
+
+        assertThat(jdbcOperations.query("select * from assessed_custom_fee", rowMapper(AssessedCustomFee.class)))
+                .containsExactlyInAnyOrderElementsOf(assessedCustomFees);
+    }
+
+    @Test
+    void unsupported() {
+        assertThat(BinaryCopyEncoder.of(entityMetadataRegistry.lookupEntity(Transaction.class)))
+                .isEmpty();
+        assertThat(BinaryCopyEncoder.of(entityMetadataRegistry.lookupEntity(CryptoTransfer.class)))
+                .isPresent();
+    }
+
+    private void persist(Collection<?> items) {
+        persist(items, new CommonParserProperties());
+    }
+
+    private void persist(Collection<?> items, CommonParserProperties properties) {
+        var entityClass = items.iterator().next().getClass();
+        var encoder = BinaryCopyEncoder.of(entityMetadataRegistry.lookupEntity(entityClass))
+                .orElseThrow();
+        new BinaryBatchInserter(entityClass, dataSource, new SimpleMeterRegistry(), properties, encoder)
+                .persist(items);
+    }
+}
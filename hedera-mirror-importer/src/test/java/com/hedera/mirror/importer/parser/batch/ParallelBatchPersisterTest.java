@@ -0,0 +1,139 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hedera.mirror.common.domain.transaction.RecordFile;
+import com.hedera.mirror.importer.EnabledIfV1;
+import com.hedera.mirror.importer.ImporterIntegrationTest;
+import com.hedera.mirror.importer.exception.ParserException;
+import com.hedera.mirror.importer.repository.CryptoTransferRepository;
+import com.hedera.mirror.importer.repository.EntityRepository;
+import com.hedera.mirror.importer.repository.RecordFileRepository;
+import com.hedera.mirror.importer.repository.TopicMessageRepository;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@EnabledIfV1
+@RequiredArgsConstructor
+class ParallelBatchPersisterTest extends ImporterIntegrationTest {
+
+    private final CryptoTransferRepository cryptoTransferRepository;
+    private final DataSource dataSource;
+    private final EntityRepository entityRepository;
+    private final ParallelBatchPersister parallelBatchPersister;
+    private final RecordFileRepository recordFileRepository;
+    private final TopicMessageRepository topicMessageRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Test
+    void persist() {
+        var cryptoTransfers = List.of(
+                domainBuilder.cryptoTransfer().get(),
+                domainBuilder.cryptoTransfer().get());
+        var entities = List.of(domainBuilder.entity().get());
+        var topicMessages = List.of(domainBuilder.topicMessage().get());
+        var recordFile = domainBuilder.recordFile().get();
+        List<Collection<?>> batches = List.of(cryptoTransfers, entities, topicMessages, List.of(recordFile));
+
+        transactionTemplate.executeWithoutResult(s -> parallelBatchPersister.persist(batches, 2, this::independent));
+
+        assertThat(cryptoTransferRepository.findAll()).containsExactlyInAnyOrderElementsOf(cryptoTransfers);
+        assertThat(entityRepository.findAll()).containsExactlyInAnyOrderElementsOf(entities);
+        assertThat(topicMessageRepository.findAll()).containsExactlyInAnyOrderElementsOf(topicMessages);
+        assertThat(recordFileRepository.findAll()).containsExactly(recordFile);
+    }
+
+    @Test
+    void persistStagesBeforeEachFlush() {
+        var first = List.of(domainBuilder.cryptoTransfer().get());
+        var second = List.of(domainBuilder.cryptoTransfer().get());
+
+        transactionTemplate.executeWithoutResult(s -> parallelBatchPersister.persist(List.of(first), 1, c -> true));
+        transactionTemplate.executeWithoutResult(s -> parallelBatchPersister.persist(List.of(second), 1, c -> true));
+
+        assertThat(cryptoTransferRepository.findAll()).containsExactlyInAnyOrder(first.get(0), second.get(0));
+    }
+
+    @Test
+    void persistNotVisibleUntilCommit() {
+        var cryptoTransfers = List.of(domainBuilder.cryptoTransfer().get());
+        var topicMessages = List.of(domainBuilder.topicMessage().get());
+        List<Collection<?>> batches = List.of(cryptoTransfers, topicMessages);
+
+        transactionTemplate.executeWithoutResult(s -> {
+            parallelBatchPersister.persist(batches, 2, c -> true);
+            assertThat(countOutsideTransaction("crypto_transfer")).isZero();
+            assertThat(countOutsideTransaction("topic_message")).isZero();
+        });
+
+        assertThat(cryptoTransferRepository.findAll()).containsExactlyElementsOf(cryptoTransfers);
+        assertThat(topicMessageRepository.findAll()).containsExactlyElementsOf(topicMessages);
+    }
+
+    @Test
+    void rollback() {
+        var cryptoTransfers = List.of(domainBuilder.cryptoTransfer().get());
+        var topicMessages = List.of(domainBuilder.topicMessage().get());
+        var recordFile = domainBuilder.recordFile().get();
+        List<Collection<?>> batches = List.of(cryptoTransfers, topicMessages, List.of(recordFile));
+
+        transactionTemplate.executeWithoutResult(s -> {
+            parallelBatchPersister.persist(batches, 2, this::independent);
+            s.setRollbackOnly();
+        });
+
+        assertThat(cryptoTransferRepository.count()).isZero();
+        assertThat(topicMessageRepository.count()).isZero();
+        assertThat(recordFileRepository.count()).isZero();
+    }
+
+    @Test
+    void rollbackOnError() {
+        var cryptoTransfers = List.of(domainBuilder.cryptoTransfer().get());
+        var recordFile = domainBuilder.recordFile().get();
+        List<Collection<?>> batches = List.of(cryptoTransfers, List.of(recordFile, recordFile));
+
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(
+                        s -> parallelBatchPersister.persist(batches, 2, this::independent)))
+                .isInstanceOf(ParserException.class);
+
+        assertThat(cryptoTransferRepository.count()).isZero();
+        assertThat(recordFileRepository.count()).isZero();
+    }
+
+    private boolean independent(Class<?> domainClass) {
+        return domainClass != RecordFile.class;
+    }
+
+    private long countOutsideTransaction(String table) {
+        try (var connection = dataSource.getConnection();
+                var statement = connection.createStatement();
+                var resultSet = statement.executeQuery("select count(*) from " + table)) {
+            return resultSet.next() ? resultSet.getLong(1) : 0L;
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
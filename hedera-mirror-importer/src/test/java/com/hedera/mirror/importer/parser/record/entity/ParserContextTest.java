@@ -21,6 +21,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.hedera.mirror.common.domain.DomainBuilder;
 import com.hedera.mirror.common.domain.entity.Entity;
+import com.hedera.mirror.common.domain.token.TokenAccount;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -57,6 +58,45 @@ class ParserContextTest {
         assertThat(getItems()).isEmpty();
     }
 
+    @Test
+    void clearKeepsPreviousInserts() {
+        var entity = domainBuilder.entity().get();
+        parserContext.add(entity);
+        var inserts = parserContext.get(Entity.class);
+
+        parserContext.clear();
+        parserContext.add(domainBuilder.entity().get());
+
+        assertThat(inserts).containsExactly(entity);
+    }
+
+    @Test
+    void clearAndReuse() {
+        var entity = domainBuilder.entity().get();
+        parserContext.merge(entity.getId(), entity, (a, b) -> a);
+        parserContext.clear();
+        assertThat(parserContext.get(Entity.class, entity.getId())).isNull();
+
+        var token = domainBuilder.token().get();
+        parserContext.add(token);
+        assertThat(getItems()).containsExactly(List.of(token));
+    }
+
+    @Test
+    void forEachOrder() {
+        var entity = domainBuilder.entity().get();
+        var tokenAccount = domainBuilder.tokenAccount().get();
+        var token = domainBuilder.token().get();
+        var transaction = domainBuilder.transaction().get();
+        parserContext.add(transaction);
+        parserContext.add(tokenAccount);
+        parserContext.add(token);
+        parserContext.add(entity);
+
+        assertThat(getItems())
+                .containsExactly(List.of(entity), List.of(token), List.of(tokenAccount), List.of(transaction));
+    }
+
     @Test
     void get() {
         assertThat(parserContext.get(Entity.class, 1L)).isNull();
@@ -68,6 +108,21 @@ class ParserContextTest {
         assertThat(parserContext.get(Entity.class, domain.getId())).isEqualTo(domain);
     }
 
+    @Test
+    void merge() {
+        var entity = domainBuilder.entity().get();
+        var merged = domainBuilder.entity(entity.getId(), entity.getCreatedTimestamp()).get();
+        parserContext.merge(entity.getId(), entity, (a, b) -> a);
+        parserContext.merge(merged.getId(), merged, (a, b) -> b);
+        assertThat(parserContext.get(Entity.class, entity.getId())).isSameAs(merged);
+        assertThat(parserContext.get(Entity.class)).containsExactly(entity, merged);
+
+        var tokenAccount = domainBuilder.tokenAccount().get();
+        var key = tokenAccount.getId();
+        parserContext.merge(key, tokenAccount, (a, b) -> a);
+        assertThat(parserContext.get(TokenAccount.class, key)).isSameAs(tokenAccount);
+    }
+
     @Test
     void getAll() {
         assertThat(parserContext.get(Entity.class)).isEmpty();
@@ -18,14 +18,18 @@ package com.hedera.mirror.importer.parser.record.entity.notify;
 
 import static com.hedera.mirror.common.converter.ObjectToStringSerializer.OBJECT_MAPPER;
 import static com.hedera.mirror.common.util.CommonUtils.nextBytes;
+import static org.assertj.core.api.Assertions.assertThat;
 
 import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.domain.topic.TopicMessage;
+import com.hedera.mirror.common.domain.topic.TopicMessageCodec;
 import com.hedera.mirror.importer.parser.record.entity.BatchPublisherTest;
 import com.hedera.mirror.importer.parser.record.entity.ParserContext;
 import java.sql.SQLException;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
 import javax.sql.DataSource;
 import org.junit.jupiter.api.Test;
 import org.postgresql.jdbc.PgConnection;
@@ -65,13 +69,65 @@ class NotifyingPublisherTest extends BatchPublisherTest {
                 .verify(Duration.ofMillis(500));
     }
 
+    @Test
+    void onTopicMessageBatch() {
+        // given
+        var notifyProperties = (NotifyProperties) properties;
+        var topicId = EntityId.of(0L, 0L, 1000L);
+        var topicMessage1 = domainBuilder.topicMessage().customize(t -> t.topicId(topicId)).get();
+        var topicMessage2 = domainBuilder
+                .topicMessage()
+                .customize(t -> t.message(nextBytes(6000)).topicId(topicId))
+                .get();
+        var topicMessage3 = domainBuilder.topicMessage().customize(t -> t.topicId(topicId)).get();
+        var topicMessage4 = domainBuilder.topicMessage().customize(t -> t.topicId(topicId)).get();
+        var payloads = listen();
+        notifyProperties.setBatch(true);
+
+        try {
+            // when
+            parserContext.add(topicMessage1);
+            parserContext.add(topicMessage2);
+            parserContext.add(topicMessage3);
+            parserContext.add(topicMessage4);
+            batchPublisher.onEnd(null);
+
+            // then
+            StepVerifier.create(payloads)
+                    .assertNext(p -> assertThat(decode(p)).containsExactly(topicMessage1))
+                    .expectNext(TopicMessageCodec.NOTIFY_REFERENCE_PREFIX + topicMessage2.getConsensusTimestamp())
+                    .assertNext(p -> assertThat(decode(p)).containsExactly(topicMessage3, topicMessage4))
+                    .thenCancel()
+                    .verify(Duration.ofMillis(2000));
+        } finally {
+            notifyProperties.setBatch(false);
+        }
+    }
+
     @Override
     protected Flux<TopicMessage> subscribe(EntityId topicId) {
+        return listen().concatMap(payload -> {
+            try {
+                var topicMessage = OBJECT_MAPPER.readValue(payload, TopicMessage.class);
+                return topicId.equals(topicMessage.getTopicId()) ? Flux.just(topicMessage) : Flux.empty();
+            } catch (Exception e) {
+                return Flux.error(e);
+            }
+        });
+    }
+
+    private List<TopicMessage> decode(String payload) {
+        assertThat(payload).startsWith(TopicMessageCodec.NOTIFY_BATCH_PREFIX);
+        var encoded = payload.substring(TopicMessageCodec.NOTIFY_BATCH_PREFIX.length());
+        return TopicMessageCodec.decode(Base64.getDecoder().decode(encoded));
+    }
+
+    private Flux<String> listen() {
         try {
             var connection = dataSource.getConnection();
             var pgConnection = connection.unwrap(PgConnection.class);
             pgConnection.execSQLUpdate("listen topic_message");
-            return Flux.defer(() -> getNotifications(pgConnection, topicId))
+            return Flux.defer(() -> getNotifications(pgConnection))
                     .repeat()
                     .subscribeOn(Schedulers.parallel())
                     .timeout(Duration.ofSeconds(3))
@@ -82,26 +138,23 @@ class NotifyingPublisherTest extends BatchPublisherTest {
                             // Ignore
                         }
                     })
-                    .doOnSubscribe(s -> log.info("Subscribed to {}", topicId));
+                    .doOnSubscribe(s -> log.info("Listening for notifications"));
         } catch (Exception e) {
             return Flux.error(e);
         }
     }
 
-    private Flux<TopicMessage> getNotifications(PgConnection pgConnection, EntityId topicId) {
+    private Flux<String> getNotifications(PgConnection pgConnection) {
         try {
-            var topicMessages = new ArrayList<TopicMessage>();
+            var payloads = new ArrayList<String>();
             var notifications = pgConnection.getNotifications(100);
 
             if (notifications != null) {
                 for (var pgNotification : notifications) {
-                    var topicMessage = OBJECT_MAPPER.readValue(pgNotification.getParameter(), TopicMessage.class);
-                    if (topicId.equals(topicMessage.getTopicId())) {
-                        topicMessages.add(topicMessage);
-                    }
+                    payloads.add(pgNotification.getParameter());
                 }
             }
-            return Flux.fromIterable(topicMessages);
+            return Flux.fromIterable(payloads);
         } catch (Exception e) {
             return Flux.error(e);
         }
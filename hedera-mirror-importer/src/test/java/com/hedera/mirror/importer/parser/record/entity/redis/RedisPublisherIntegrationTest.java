@@ -17,23 +17,33 @@
 package com.hedera.mirror.importer.parser.record.entity.redis;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 
 import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.domain.topic.StreamMessage;
 import com.hedera.mirror.common.domain.topic.TopicMessage;
+import com.hedera.mirror.common.domain.topic.TopicMessageCodec;
 import com.hedera.mirror.importer.parser.record.RecordStreamFileListener;
 import com.hedera.mirror.importer.parser.record.entity.BatchPublisherTest;
 import com.hedera.mirror.importer.parser.record.entity.ParserContext;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.ByteRecord;
 import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
 import reactor.core.publisher.Flux;
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 class RedisPublisherIntegrationTest extends BatchPublisherTest {
 
+    private final RedisProperties redisProperties;
     private final ReactiveRedisOperations<String, StreamMessage> redisOperations;
+    private final RedisOperations<String, StreamMessage> redisStreamOperations;
     private final List<RecordStreamFileListener> streamFileListeners;
 
     public RedisPublisherIntegrationTest(
@@ -41,9 +51,12 @@ class RedisPublisherIntegrationTest extends BatchPublisherTest {
             ParserContext parserContext,
             RedisProperties properties,
             ReactiveRedisOperations<String, StreamMessage> redisOperations,
+            RedisOperations<String, StreamMessage> redisStreamOperations,
             List<RecordStreamFileListener> streamFileListeners) {
         super(redisPublisher, parserContext, properties);
+        this.redisProperties = properties;
         this.redisOperations = redisOperations;
+        this.redisStreamOperations = redisStreamOperations;
         this.streamFileListeners = streamFileListeners;
     }
 
@@ -52,8 +65,37 @@ class RedisPublisherIntegrationTest extends BatchPublisherTest {
         return redisOperations.listenToChannel("topic." + topicId.getId()).map(m -> (TopicMessage) m.getMessage());
     }
 
+    @Test
+    void stream() {
+        var topicMessage1 = domainBuilder.topicMessage().get();
+        var topicMessage2 = domainBuilder.topicMessage().get();
+        parserContext.add(topicMessage1);
+        parserContext.add(topicMessage2);
+        redisProperties.setStream(true);
+
+        try {
+            batchPublisher.onEnd(null);
+
+            await().atMost(Duration.ofSeconds(2L))
+                    .pollInterval(Duration.ofMillis(50L))
+                    .untilAsserted(() -> assertThat(readStream()).containsExactly(topicMessage1, topicMessage2));
+        } finally {
+            redisProperties.setStream(false);
+        }
+    }
+
     @Test
     void publishesFirst() {
         assertThat(streamFileListeners).first().isEqualTo(batchPublisher);
     }
+
+    private List<TopicMessage> readStream() {
+        var key = TopicMessageCodec.STREAM_KEY.getBytes(StandardCharsets.UTF_8);
+        List<ByteRecord> records = redisStreamOperations.execute(
+                (RedisCallback<List<ByteRecord>>) c -> c.streamCommands().xRange(key, Range.unbounded()));
+        return records.stream()
+                .flatMap(r -> r.getValue().values().stream())
+                .flatMap(bytes -> TopicMessageCodec.decode(bytes).stream())
+                .toList();
+    }
 }
@@ -28,6 +28,7 @@ import com.hedera.mirror.common.domain.topic.TopicMessage;
 import com.hedera.mirror.importer.parser.record.entity.ParserContext;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -107,10 +108,34 @@ class RedisPublisherTest {
         verify(redisOperations, timeout(TIMEOUT.toMillis()).times(2)).executePipelined(any(SessionCallback.class));
     }
 
+    @Test
+    void clearWhileQueued() {
+        var latch = new CountDownLatch(1);
+        when(redisOperations.executePipelined(any(SessionCallback.class))).then(invocation -> {
+            Uninterruptibles.awaitUninterruptibly(latch);
+            SessionCallback<Object> callback = invocation.getArgument(0);
+            return callback.execute(redisOperations);
+        });
+
+        var topicMessage1 = topicMessage();
+        var topicMessage2 = topicMessage();
+        submitAndSave(topicMessage1);
+        parserContext.clear();
+        submitAndSave(topicMessage2);
+        latch.countDown();
+
+        verify(redisOperations, timeout(TIMEOUT.toMillis())).convertAndSend(channel(topicMessage1), topicMessage1);
+        verify(redisOperations, timeout(TIMEOUT.toMillis())).convertAndSend(channel(topicMessage2), topicMessage2);
+    }
+
     protected TopicMessage topicMessage() {
         return domainBuilder.topicMessage().get();
     }
 
+    private String channel(TopicMessage topicMessage) {
+        return "topic." + topicMessage.getTopicId().getId();
+    }
+
     private void submitAndSave(TopicMessage topicMessage) {
         parserContext.add(topicMessage);
         entityListener.onEnd(null);
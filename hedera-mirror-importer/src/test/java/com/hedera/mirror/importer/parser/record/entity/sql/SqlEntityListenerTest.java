@@ -54,6 +54,7 @@ import com.hedera.mirror.common.domain.transaction.Transaction;
 import com.hedera.mirror.common.domain.transaction.TransactionSignature;
 import com.hedera.mirror.common.domain.transaction.TransactionType;
 import com.hedera.mirror.common.util.DomainUtils;
+import com.hedera.mirror.importer.EnabledIfV1;
 import com.hedera.mirror.importer.ImporterIntegrationTest;
 import com.hedera.mirror.importer.TestUtils;
 import com.hedera.mirror.importer.parser.record.entity.EntityProperties;
@@ -176,6 +177,7 @@ class SqlEntityListenerTest extends ImporterIntegrationTest {
         entityProperties.getPersist().setTransactionHashTypes(defaultTransactionHashTypes);
         entityProperties.getPersist().setTransactionHash(false);
         entityProperties.getPersist().setTrackBalance(true);
+        sqlProperties.setParallelism(0);
     }
 
     @Test
@@ -194,6 +196,30 @@ class SqlEntityListenerTest extends ImporterIntegrationTest {
         assertThat(findHistory(Entity.class)).isEmpty();
     }
 
+    @Test
+    @EnabledIfV1
+    void executeBatchParallel() {
+        // given
+        sqlProperties.setParallelism(2);
+        var cryptoTransfer = domainBuilder.cryptoTransfer().get();
+        var entity = domainBuilder.entity().get();
+        var topicMessage = domainBuilder.topicMessage().get();
+        var transaction = domainBuilder.transaction().get();
+
+        // when
+        sqlEntityListener.onCryptoTransfer(cryptoTransfer);
+        sqlEntityListener.onEntity(entity);
+        sqlEntityListener.onTopicMessage(topicMessage);
+        sqlEntityListener.onTransaction(transaction);
+        completeFileAndCommit();
+
+        // then
+        assertThat(cryptoTransferRepository.findAll()).containsExactly(cryptoTransfer);
+        assertThat(entityRepository.findAll()).containsExactly(entity);
+        assertThat(topicMessageRepository.findAll()).containsExactly(topicMessage);
+        assertThat(transactionRepository.findAll()).containsExactly(transaction);
+    }
+
     @Test
     void isEnabled() {
         sqlProperties.setEnabled(false);
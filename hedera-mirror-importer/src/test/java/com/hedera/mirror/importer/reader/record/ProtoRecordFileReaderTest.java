@@ -17,11 +17,13 @@
 package com.hedera.mirror.importer.reader.record;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.api.Assertions.*;
 
 import com.google.common.primitives.Bytes;
 import com.google.common.primitives.Ints;
 import com.hedera.mirror.common.domain.DigestAlgorithm;
+import com.hedera.mirror.common.domain.transaction.RecordItem;
 import com.hedera.mirror.common.util.DomainUtils;
 import com.hedera.mirror.importer.TestUtils;
 import com.hedera.mirror.importer.domain.StreamFileData;
@@ -33,6 +35,7 @@ import com.hedera.services.stream.proto.RecordStreamItem;
 import com.hederahashgraph.api.proto.java.CryptoTransferTransactionBody;
 import com.hederahashgraph.api.proto.java.SemanticVersion;
 import com.hederahashgraph.api.proto.java.SignedTransaction;
+import com.hederahashgraph.api.proto.java.Timestamp;
 import com.hederahashgraph.api.proto.java.Transaction;
 import com.hederahashgraph.api.proto.java.TransactionBody;
 import com.hederahashgraph.api.proto.java.TransactionRecord;
@@ -96,6 +99,62 @@ class ProtoRecordFileReaderTest extends AbstractRecordFileReaderTest {
         assertThat(recordFile.getDigestAlgorithm()).isEqualTo(DigestAlgorithm.SHA_384);
     }
 
+    @Test
+    void readItemsLazily() {
+        var parentTimestamp = Timestamp.newBuilder().setSeconds(1).build();
+        var bytes = gzip(ProtoRecordStreamFile.of(b -> {
+            var item = b.getRecordStreamItems(0);
+            return b.clearRecordStreamItems()
+                    .addRecordStreamItems(item.toBuilder()
+                            .setRecord(TransactionRecord.newBuilder().setConsensusTimestamp(parentTimestamp)))
+                    .addRecordStreamItems(item.toBuilder()
+                            .setRecord(TransactionRecord.newBuilder()
+                                    .setConsensusTimestamp(parentTimestamp.toBuilder().setNanos(1))
+                                    .setParentConsensusTimestamp(parentTimestamp)))
+                    .addRecordStreamItems(item.toBuilder()
+                            .setRecord(TransactionRecord.newBuilder()
+                                    .setConsensusTimestamp(parentTimestamp.toBuilder().setNanos(2))
+                                    .setParentConsensusTimestamp(parentTimestamp)));
+        }));
+        var reader = new ProtoRecordFileReader();
+        var recordFile = reader.read(StreamFileData.from(FILENAME, bytes));
+
+        assertThat(recordFile.getCount()).isEqualTo(3L);
+        assertThat(recordFile.getConsensusStart()).isEqualTo(1_000_000_000L);
+        assertThat(recordFile.getConsensusEnd()).isEqualTo(1_000_000_002L);
+
+        var items = recordFile.getItems().collectList().block();
+        assertThat(items)
+                .extracting(RecordItem::getTransactionIndex, RecordItem::getConsensusTimestamp)
+                .containsExactly(
+                        tuple(0, 1_000_000_000L), tuple(1, 1_000_000_001L), tuple(2, 1_000_000_002L));
+        assertThat(items.get(0).getParent()).isNull();
+        assertThat(items.get(1).getParent()).isSameAs(items.get(0));
+        assertThat(items.get(2).getParent()).isSameAs(items.get(0));
+
+        // Each subscription decodes the items again
+        assertThat(recordFile.getItems().blockFirst())
+                .isNotSameAs(items.get(0))
+                .returns(1_000_000_000L, RecordItem::getConsensusTimestamp);
+    }
+
+    @Test
+    void readInvalidItemLazily() {
+        var valid = ProtoRecordStreamFile.of(Function.identity());
+        var item = ProtoRecordStreamFile.getDefaultRecordStreamFileBuilder()
+                .getRecordStreamItems(0)
+                .toByteArray();
+        var invalidItem = new byte[] {0x1A, 0x02, 0x0A, 0x05};
+        var validItem = Bytes.concat(new byte[] {0x1A, (byte) item.length}, item);
+        var bytes = gzip(Bytes.concat(valid, invalidItem, validItem));
+        var reader = new ProtoRecordFileReader();
+        var recordFile = reader.read(StreamFileData.from(FILENAME, bytes));
+
+        assertThat(recordFile.getCount()).isEqualTo(3L);
+        var items = recordFile.getItems();
+        assertThrows(InvalidStreamFileException.class, items::blockLast);
+    }
+
     @SneakyThrows
     private byte[] gzip(byte[] data) {
         try (var byteArrayOutputStream = new ByteArrayOutputStream();
@@ -58,20 +58,14 @@ class RecordFileReaderImplV5Test extends AbstractRecordFileReaderTest {
                     RecordFile actual = recordFileReader.read(streamFileData);
 
                     // then
-                    RecordItem previousItem = null;
                     RecordItem lastParentItem = null;
                     for (var item : actual.getItems().collectList().block()) {
-                        // assert previous link points to previous item
-                        assertThat(item.getPrevious()).isEqualTo(previousItem);
-
                         // confirm if child that parent is populated
                         if (item.isChild()) {
-                            assertThat(item.getParent()).isEqualTo(lastParentItem);
+                            assertThat(item.getParent()).isSameAs(lastParentItem);
                         } else {
                             lastParentItem = item;
                         }
-
-                        previousItem = item;
                     }
                 });
     }
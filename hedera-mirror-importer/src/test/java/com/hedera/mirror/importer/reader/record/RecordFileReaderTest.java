@@ -22,6 +22,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import com.hedera.mirror.common.domain.transaction.RecordFile;
 import com.hedera.mirror.common.domain.transaction.RecordItem;
 import com.hedera.mirror.common.domain.transaction.SidecarFile;
+import com.hedera.mirror.common.util.DomainUtils;
 import com.hedera.mirror.importer.TestRecordFiles;
 import com.hedera.mirror.importer.domain.StreamFileData;
 import com.hedera.mirror.importer.exception.InvalidStreamFileException;
@@ -129,11 +130,17 @@ abstract class RecordFileReaderTest {
                     RecordFile actual = recordFileReader.read(streamFileData);
 
                     // then
-                    RecordItem previousItem = null;
-                    for (var item : actual.getItems().collectList().block()) {
-                        // assert previous link points to previous item
-                        assertThat(item.getPrevious()).isEqualTo(previousItem);
-                        previousItem = item;
+                    var items = actual.getItems().collectList().block();
+                    for (var item : items) {
+                        // assert parent link points to an earlier item with the parent consensus timestamp
+                        var parent = item.getParent();
+                        if (parent != null) {
+                            var parentTimestamp = DomainUtils.timestampInNanosMax(
+                                    item.getTransactionRecord().getParentConsensusTimestamp());
+                            assertThat(parent.getConsensusTimestamp()).isEqualTo(parentTimestamp);
+                            assertThat(items.get(parent.getTransactionIndex())).isSameAs(parent);
+                            assertThat(parent.getTransactionIndex()).isLessThan(item.getTransactionIndex());
+                        }
                     }
                 });
     }
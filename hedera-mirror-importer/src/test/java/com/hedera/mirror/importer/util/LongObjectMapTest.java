@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Random;
+import java.util.function.BinaryOperator;
+import org.junit.jupiter.api.Test;
+
+class LongObjectMapTest {
+
+    private final LongObjectMap<String> map = new LongObjectMap<>(4);
+
+    @Test
+    void merge() {
+        assertThat(map.merge(0L, "a", (a, b) -> a + b)).isEqualTo("a");
+        assertThat(map.merge(0L, "b", (a, b) -> a + b)).isEqualTo("ab");
+        assertThat(map.merge(-1L, "c", (a, b) -> a + b)).isEqualTo("c");
+        assertThat(map.get(0L)).isEqualTo("ab");
+        assertThat(map.get(-1L)).isEqualTo("c");
+        assertThat(map.get(1L)).isNull();
+        assertThat(map.size()).isEqualTo(2);
+    }
+
+    @Test
+    void computeIfAbsent() {
+        for (long key = 0; key < 16; key++) {
+            assertThat(map.computeIfAbsent(key, String::valueOf)).isEqualTo(String.valueOf(key));
+        }
+
+        assertThat(map.computeIfAbsent(1L, k -> "a")).isEqualTo("1");
+        assertThat(map.get(15L)).isEqualTo("15");
+        assertThat(map.size()).isEqualTo(16);
+    }
+
+    @Test
+    void mergeRemove() {
+        map.merge(1L, "a", (a, b) -> b);
+        map.merge(2L, "b", (a, b) -> b);
+        assertThat(map.merge(1L, "c", (a, b) -> null)).isNull();
+        assertThat(map.get(1L)).isNull();
+        assertThat(map.get(2L)).isEqualTo("b");
+        assertThat(map.size()).isOne();
+    }
+
+    @Test
+    void clear() {
+        map.merge(1L, "a", (a, b) -> b);
+        map.clear();
+        assertThat(map.get(1L)).isNull();
+        assertThat(map.size()).isZero();
+    }
+
+    @Test
+    void matchesHashMap() {
+        var expected = new HashMap<Long, String>();
+        var random = new Random(1);
+
+        for (int i = 0; i < 100_000; i++) {
+            long key = random.nextInt(1000);
+            var value = String.valueOf(i);
+
+            BinaryOperator<String> mergeFunction = random.nextInt(4) == 0 ? (a, b) -> null : (a, b) -> b;
+            assertThat(map.merge(key, value, mergeFunction)).isEqualTo(expected.merge(key, value, mergeFunction));
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        for (long key = 0; key < 1000; key++) {
+            assertThat(map.get(key)).isEqualTo(expected.get(key));
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class LongPairSetTest {
+
+    private final LongPairSet set = new LongPairSet(4);
+
+    @Test
+    void add() {
+        assertThat(set.add(1L, 2L)).isTrue();
+        assertThat(set.add(2L, 1L)).isTrue();
+        assertThat(set.add(0L, 0L)).isTrue();
+        assertThat(set.add(1L, 2L)).isFalse();
+        assertThat(set.contains(1L, 2L)).isTrue();
+        assertThat(set.contains(0L, 0L)).isTrue();
+        assertThat(set.contains(1L, 1L)).isFalse();
+        assertThat(set.size()).isEqualTo(3);
+    }
+
+    @Test
+    void clear() {
+        set.add(1L, 2L);
+        set.clear();
+        assertThat(set.contains(1L, 2L)).isFalse();
+        assertThat(set.size()).isZero();
+        assertThat(set.add(1L, 2L)).isTrue();
+    }
+
+    @Test
+    void matchesHashSet() {
+        var expected = new HashSet<List<Long>>();
+        var random = new Random(1);
+
+        for (int i = 0; i < 100_000; i++) {
+            long first = random.nextInt(100);
+            long second = random.nextInt(100);
+            assertThat(set.add(first, second)).isEqualTo(expected.add(List.of(first, second)));
+        }
+
+        assertThat(set.size()).isEqualTo(expected.size());
+    }
+}
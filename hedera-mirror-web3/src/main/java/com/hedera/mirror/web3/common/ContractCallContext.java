@@ -20,9 +20,12 @@ import com.hedera.mirror.common.domain.transaction.RecordFile;
 import com.hedera.mirror.web3.evm.store.CachingStateFrame;
 import com.hedera.mirror.web3.evm.store.StackedStateFrames;
 import java.util.EmptyStackException;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import lombok.Getter;
 import lombok.Setter;
+import org.apache.tuweni.bytes.Bytes;
 
 @Getter
 public class ContractCallContext implements AutoCloseable {
@@ -42,6 +45,12 @@ public class ContractCallContext implements AutoCloseable {
     /** Fixed "base" of stack: a R/O cache frame on top of the DB-backed cache frame */
     private CachingStateFrame<Object> stackBase;
 
+    /**
+     * The storage of the contracts that was prefetched during this call, keyed by contract ID. A null value indicates
+     * the contract has too many slots to prefetch. Like the stack base, it is kept when the call is reset.
+     */
+    private final Map<Long, Map<Bytes, Bytes>> prefetchedStorage = new HashMap<>();
+
     private ContractCallContext() {}
 
     public static ContractCallContext get() {
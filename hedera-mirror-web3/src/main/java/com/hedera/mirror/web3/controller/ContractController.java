@@ -32,6 +32,7 @@ import com.hedera.mirror.web3.exception.EntityNotFoundException;
 import com.hedera.mirror.web3.exception.InvalidInputException;
 import com.hedera.mirror.web3.exception.MirrorEvmTransactionException;
 import com.hedera.mirror.web3.exception.RateLimitException;
+import com.hedera.mirror.web3.service.ContractCallExecutor;
 import com.hedera.mirror.web3.service.ContractCallService;
 import com.hedera.mirror.web3.service.model.CallServiceParameters;
 import com.hedera.mirror.web3.viewmodel.ContractCallRequest;
@@ -40,6 +41,7 @@ import com.hedera.mirror.web3.viewmodel.GenericErrorResponse;
 import com.hedera.node.app.service.evm.store.models.HederaEvmAccount;
 import io.github.bucket4j.Bucket;
 import jakarta.validation.Valid;
+import java.util.concurrent.RejectedExecutionException;
 import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
@@ -63,6 +65,7 @@ import reactor.core.publisher.Mono;
 @RequiredArgsConstructor
 @RestController
 class ContractController {
+    private final ContractCallExecutor contractCallExecutor;
     private final ContractCallService contractCallService;
     private final Bucket bucket;
 
@@ -75,10 +78,7 @@ class ContractController {
         }
 
         final var params = constructServiceParameters(request);
-        final var result = contractCallService.processCall(params);
-        final var callResponse = new ContractCallResponse(result);
-
-        return Mono.just(callResponse);
+        return contractCallExecutor.execute(() -> new ContractCallResponse(contractCallService.processCall(params)));
     }
 
     private CallServiceParameters constructServiceParameters(ContractCallRequest request) {
@@ -183,6 +183,13 @@ class ContractController {
         return errorResponse(SERVICE_UNAVAILABLE.getReasonPhrase());
     }
 
+    @ExceptionHandler
+    @ResponseStatus(SERVICE_UNAVAILABLE)
+    private Mono<GenericErrorResponse> callRejected(final RejectedExecutionException e) {
+        log.warn("Contract call rejected: {}", e.getMessage());
+        return errorResponse(SERVICE_UNAVAILABLE.getReasonPhrase());
+    }
+
     private Mono<GenericErrorResponse> errorResponse(final String errorMessage) {
         return Mono.just(new GenericErrorResponse(errorMessage));
     }
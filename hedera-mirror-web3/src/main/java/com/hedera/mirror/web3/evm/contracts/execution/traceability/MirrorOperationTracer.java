@@ -20,6 +20,7 @@ import com.hedera.mirror.web3.evm.account.MirrorEvmContractAliases;
 import com.hedera.mirror.web3.evm.properties.TraceProperties;
 import com.hedera.node.app.service.evm.contracts.execution.traceability.HederaEvmOperationTracer;
 import jakarta.inject.Named;
+import java.util.concurrent.CancellationException;
 import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
 import org.apache.tuweni.bytes.Bytes;
@@ -34,6 +35,16 @@ public class MirrorOperationTracer implements HederaEvmOperationTracer {
     private final TraceProperties traceProperties;
     private final MirrorEvmContractAliases mirrorEvmContractAliases;
 
+    /**
+     * Halts the execution when the thread running the call was interrupted because the call was cancelled or timed out.
+     */
+    @Override
+    public void tracePreExecution(final MessageFrame currentFrame) {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new CancellationException("Contract call was cancelled");
+        }
+    }
+
     @Override
     public void tracePostExecution(final MessageFrame currentFrame, final Operation.OperationResult operationResult) {
         if (!traceProperties.isEnabled()) {
@@ -60,10 +60,28 @@ public class MirrorNodeEvmProperties implements EvmProperties {
     @NotNull
     private Set<EntityType> autoRenewTargetTypes = new HashSet<>();
 
+    @Getter
+    @Min(1)
+    private int callConcurrency = 50;
+
+    @Getter
+    @Min(0)
+    private int callQueueSize = 500;
+
+    @Getter
+    @NotNull
+    @DurationMin(millis = 100)
+    private Duration callTimeout = Duration.ofSeconds(10L);
+
     @Getter
     @Positive
     private long estimateGasIterationThreshold = 7300L;
 
+    @Getter
+    @Min(1)
+    @Max(16)
+    private int estimateGasParallelism = 1;
+
     private boolean directTokenCall = true;
 
     private boolean dynamicEvmVersion = true;
@@ -152,6 +170,10 @@ public class MirrorNodeEvmProperties implements EvmProperties {
     @Min(100)
     private long rateLimit = 500;
 
+    @Getter
+    @Min(0)
+    private int storagePrefetchSize = 0;
+
     public boolean shouldAutoRenewAccounts() {
         return autoRenewTargetTypes.contains(EntityType.ACCOUNT);
     }
@@ -16,33 +16,52 @@
 
 package com.hedera.mirror.web3.evm.store;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import com.hedera.mirror.web3.evm.exception.EvmException;
 import com.hedera.mirror.web3.evm.store.accessor.DatabaseAccessor;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.Serial;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import lombok.NonNull;
+import org.apache.tuweni.bytes.Bytes;
 
 /** A CachingStateFrame that answers reads by getting entities from some other source - a database! - and
- * disallows all local updates/deletes. */
+ * disallows all local updates/deletes. Historical reads are also kept in an optional cache shared by all calls, since
+ * the state at a given timestamp never changes. Each call gets its own copy of a cached value. */
 public class DatabaseBackedStateFrame<K> extends CachingStateFrame<K> {
 
+    private static final int HISTORICAL_STATE_ENTRY_SIZE = 128;
+    private static final int HISTORICAL_STATE_VALUE_SIZE = 1024;
+
     @NonNull
     final Map<Class<?>, DatabaseAccessor<K, ?>> databaseAccessors;
 
     final Optional<Long> timestamp;
 
+    @Nullable
+    final Cache<Object, Optional<Object>> historicalState;
+
     public DatabaseBackedStateFrame(
             @NonNull final List<DatabaseAccessor<K, ?>> accessors,
             @NonNull final Class<?>[] valueClasses,
             final Optional<Long> timestamp) {
+        this(accessors, valueClasses, timestamp, null);
+    }
+
+    public DatabaseBackedStateFrame(
+            @NonNull final List<DatabaseAccessor<K, ?>> accessors,
+            @NonNull final Class<?>[] valueClasses,
+            final Optional<Long> timestamp,
+            @Nullable final Cache<Object, Optional<Object>> historicalState) {
         super(
                 Optional.empty(),
                 valueClasses); // superclass of this frame will create/hold useless UpdatableReferenceCaches
         databaseAccessors = accessors.stream().collect(Collectors.toMap(DatabaseAccessor::getValueClass, a -> a));
         this.timestamp = timestamp;
+        this.historicalState = historicalState;
     }
 
     @Override
@@ -53,7 +72,32 @@ public class DatabaseBackedStateFrame<K> extends CachingStateFrame<K> {
         if (databaseAccessor == null) {
             throw new NullPointerException("no available accessor for given klass");
         }
-        return databaseAccessor.get(key, timestamp).flatMap(o -> Optional.of(klass.cast(o)));
+
+        if (historicalState == null || timestamp.isEmpty() || !databaseAccessor.isShareable()) {
+            return databaseAccessor.get(key, timestamp).flatMap(o -> Optional.of(klass.cast(o)));
+        }
+
+        // Not loaded atomically since an accessor can read other values through the same cache while loading
+        final var historicalKey = new HistoricalStateKey(timestamp.get(), klass, key);
+        var value = historicalState.getIfPresent(historicalKey);
+        if (value == null) {
+            value = databaseAccessor.get(key, timestamp).map(Object.class::cast);
+            historicalState.put(historicalKey, value);
+        }
+        // The cached value is never handed out, so a call can't change what other calls read
+        return value.map(o -> copy(databaseAccessor, o)).flatMap(o -> Optional.of(klass.cast(o)));
+    }
+
+    /** Approximate heap size in bytes of a historical state entry, for bounding the cache by memory. Storage values
+     * are weighed by their size, other values by a fixed estimate since their lazily loaded fields aren't known. */
+    public static int weigh(@NonNull final Object key, @NonNull final Optional<Object> value) {
+        return HISTORICAL_STATE_ENTRY_SIZE
+                + value.map(v -> v instanceof Bytes bytes ? bytes.size() : HISTORICAL_STATE_VALUE_SIZE).orElse(0);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> Object copy(final DatabaseAccessor<?, V> databaseAccessor, final Object value) {
+        return databaseAccessor.copy((V) value);
     }
 
     @Override
@@ -81,6 +125,8 @@ public class DatabaseBackedStateFrame<K> extends CachingStateFrame<K> {
         throw new UnsupportedOperationException("Cannot commit to a database-backed StateFrame (oddly enough)");
     }
 
+    private record HistoricalStateKey(long timestamp, Class<?> klass, Object key) {}
+
     /** Signals that a type error occurred with the _value_ type */
     @SuppressWarnings("java:S110")
     public static class DatabaseAccessIncorrectKeyTypeException extends EvmException {
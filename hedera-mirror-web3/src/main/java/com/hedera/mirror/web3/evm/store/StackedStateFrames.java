@@ -16,9 +16,16 @@
 
 package com.hedera.mirror.web3.evm.store;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.annotations.VisibleForTesting;
 import com.hedera.mirror.web3.common.ContractCallContext;
 import com.hedera.mirror.web3.evm.store.accessor.DatabaseAccessor;
+import com.hedera.mirror.web3.repository.properties.CacheProperties;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import java.util.List;
 import java.util.Optional;
@@ -27,18 +34,46 @@ import lombok.NonNull;
 @Named
 public class StackedStateFrames {
 
+    private static final String HISTORICAL_STATE_CACHE_NAME = "historicalState";
+
     /** All the database accessors for the value types this stacked cache can hold */
     @NonNull
     protected final List<DatabaseAccessor<Object, ?>> accessors;
     /** All the `Class`es for the value types this stacked cache can hold */
     @NonNull
     protected final Class<?>[] valueClasses;
+    /** The values read at a historical timestamp, shared by all calls */
+    @Nullable
+    private final Cache<Object, Optional<Object>> historicalState;
 
     /** Create a `StackedStackFrames` stacked cache at base level given the database accessors for all the value
      * types this cache will hold.
      */
     public StackedStateFrames(@NonNull final List<DatabaseAccessor<Object, ?>> accessors) {
+        this(accessors, null);
+    }
+
+    /** Create a `StackedStackFrames` stacked cache whose historical reads are cached across calls as configured by
+     * the cache properties. The cache is weighed by the approximate size of its entries in bytes.
+     */
+    @Inject
+    public StackedStateFrames(
+            @NonNull final List<DatabaseAccessor<Object, ?>> accessors,
+            @NonNull final CacheProperties cacheProperties,
+            @NonNull final MeterRegistry meterRegistry) {
+        this(
+                accessors,
+                Caffeine.from(cacheProperties.getHistoricalState())
+                        .<Object, Optional<Object>>weigher(DatabaseBackedStateFrame::weigh)
+                        .build());
+        CaffeineCacheMetrics.monitor(meterRegistry, historicalState, HISTORICAL_STATE_CACHE_NAME);
+    }
+
+    private StackedStateFrames(
+            @NonNull final List<DatabaseAccessor<Object, ?>> accessors,
+            @Nullable final Cache<Object, Optional<Object>> historicalState) {
         this.accessors = accessors;
+        this.historicalState = historicalState;
         this.valueClasses = accessors.stream()
                 .map(DatabaseAccessor::getValueClass)
                 .distinct()
@@ -62,7 +97,7 @@ public class StackedStateFrames {
     }
 
     public CachingStateFrame<Object> getInitializedStackBase(final Optional<Long> timestamp) {
-        final var database = new DatabaseBackedStateFrame<>(accessors, valueClasses, timestamp);
+        final var database = new DatabaseBackedStateFrame<>(accessors, valueClasses, timestamp, historicalState);
         return new ROCachingStateFrame<>(Optional.of(database), valueClasses);
     }
 
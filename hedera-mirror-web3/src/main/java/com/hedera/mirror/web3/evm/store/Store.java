@@ -26,6 +26,7 @@ import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.TokenID;
 import java.util.List;
 import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes;
 import org.hyperledger.besu.datatypes.Address;
 
 /**
@@ -96,6 +97,11 @@ public interface Store {
 
     Optional<Long> getHistoricalTimestamp();
 
+    /**
+     * Load the value of a contract's storage slot from the in-memory state, returning empty bytes if the slot is unset.
+     */
+    Bytes getStorage(long contractId, Bytes slot);
+
     enum OnMissing {
         THROW,
         DONT_THROW
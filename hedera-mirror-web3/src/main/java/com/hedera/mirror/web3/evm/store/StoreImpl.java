@@ -25,6 +25,7 @@ import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.TOKEN_WAS_DELE
 import com.google.protobuf.ByteString;
 import com.hedera.mirror.web3.evm.store.CachingStateFrame.CacheAccessIncorrectTypeException;
 import com.hedera.mirror.web3.evm.store.UpdatableReferenceCache.UpdatableCacheUsageException;
+import com.hedera.mirror.web3.evm.store.accessor.model.ContractStorageKey;
 import com.hedera.mirror.web3.evm.store.accessor.model.TokenRelationshipKey;
 import com.hedera.node.app.service.evm.exceptions.InvalidTransactionException;
 import com.hedera.services.store.models.Account;
@@ -42,6 +43,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import org.apache.tuweni.bytes.Bytes;
 import org.hyperledger.besu.datatypes.Address;
 
 @Named
@@ -288,6 +290,18 @@ public class StoreImpl implements Store {
                 .flatMap(databaseBackedStateFrame -> databaseBackedStateFrame.timestamp);
     }
 
+    @Override
+    public Bytes getStorage(final long contractId, final Bytes slot) {
+        try {
+            final var storageAccessor = stackedStateFrames.top().getAccessor(Bytes.class);
+            // Copy the slot into plain bytes since some Bytes implementations, like UInt256, only equal their own type
+            final var key = new ContractStorageKey(contractId, Bytes.wrap(slot.toArray()));
+            return storageAccessor.get(key).orElse(Bytes.EMPTY);
+        } catch (CacheAccessIncorrectTypeException e) {
+            return Bytes.EMPTY;
+        }
+    }
+
     /**
      * Returns a {@link Token} model with loaded unique tokens
      *
@@ -22,6 +22,7 @@ import static com.hedera.mirror.web3.evm.store.accessor.TokenRelationshipDatabas
 import static com.hedera.services.utils.EntityIdUtils.idFromEntityId;
 import static com.hedera.services.utils.MiscUtils.asFcKeyUnchecked;
 
+import com.google.common.base.Suppliers;
 import com.google.protobuf.ByteString;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.hedera.mirror.common.domain.entity.AbstractTokenAllowance;
@@ -82,12 +83,23 @@ public class AccountDatabaseAccessor extends DatabaseAccessor<Object, Account> {
                 .formatted(Account.class.getTypeName(), key.getClass().getTypeName()));
     }
 
+    @Override
+    public boolean isShareable() {
+        return true;
+    }
+
+    /** Calls modify the allowances of the accounts they read, so each call gets its own copy of them */
+    @Override
+    public @NonNull Account copy(@NonNull final Account account) {
+        return account.copy();
+    }
+
     private Account accountFromEntity(Entity entity, final Optional<Long> timestamp) {
         if (!ACCOUNT.equals(entity.getType()) && !CONTRACT.equals(entity.getType())) {
             throw new WrongTypeException("Trying to map an account/contract from a different type");
         }
         final var tokenAssociationsCounts =
-                getNumberOfAllAndPositiveBalanceTokenAssociations(entity.getId(), timestamp);
+                Suppliers.memoize(() -> getNumberOfAllAndPositiveBalanceTokenAssociations(entity.getId(), timestamp));
         return new Account(
                 entity.getEvmAddress() != null && entity.getEvmAddress().length > 0
                         ? ByteString.copyFrom(entity.getEvmAddress())
@@ -95,17 +107,17 @@ public class AccountDatabaseAccessor extends DatabaseAccessor<Object, Account> {
                 entity.getId(),
                 new Id(entity.getShard(), entity.getRealm(), entity.getNum()),
                 TimeUnit.SECONDS.convert(entity.getEffectiveExpiration(), TimeUnit.NANOSECONDS),
-                getAccountBalance(entity, timestamp),
+                () -> getAccountBalance(entity, timestamp),
                 Optional.ofNullable(entity.getDeleted()).orElse(false),
-                getOwnedNfts(entity.getId(), timestamp),
+                () -> getOwnedNfts(entity.getId(), timestamp),
                 Optional.ofNullable(entity.getAutoRenewPeriod()).orElse(DEFAULT_AUTO_RENEW_PERIOD),
                 idFromEntityId(entity.getProxyAccountId()),
                 Optional.ofNullable(entity.getMaxAutomaticTokenAssociations()).orElse(0),
-                getCryptoAllowances(entity.getId(), timestamp),
-                getFungibleTokenAllowances(entity.getId(), timestamp),
-                getApproveForAllNfts(entity.getId(), timestamp),
-                tokenAssociationsCounts.all(),
-                tokenAssociationsCounts.positive(),
+                () -> getCryptoAllowances(entity.getId(), timestamp),
+                () -> getFungibleTokenAllowances(entity.getId(), timestamp),
+                () -> getApproveForAllNfts(entity.getId(), timestamp),
+                () -> tokenAssociationsCounts.get().all(),
+                () -> tokenAssociationsCounts.get().positive(),
                 0,
                 Optional.ofNullable(entity.getEthereumNonce()).orElse(0L),
                 entity.getType().equals(CONTRACT),
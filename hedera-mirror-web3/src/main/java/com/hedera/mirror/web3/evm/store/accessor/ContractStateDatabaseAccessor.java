@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.web3.evm.store.accessor;
+
+import com.hedera.mirror.common.domain.contract.ContractState;
+import com.hedera.mirror.web3.common.ContractCallContext;
+import com.hedera.mirror.web3.evm.properties.MirrorNodeEvmProperties;
+import com.hedera.mirror.web3.evm.store.DatabaseBackedStateFrame.DatabaseAccessIncorrectKeyTypeException;
+import com.hedera.mirror.web3.evm.store.accessor.model.ContractStorageKey;
+import com.hedera.mirror.web3.repository.ContractStateRepository;
+import jakarta.inject.Named;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.apache.tuweni.bytes.Bytes;
+
+@Named
+@RequiredArgsConstructor
+public class ContractStateDatabaseAccessor extends DatabaseAccessor<Object, Bytes> {
+
+    private final ContractStateRepository contractStateRepository;
+    private final MirrorNodeEvmProperties properties;
+
+    @Override
+    public @NonNull Optional<Bytes> get(@NonNull Object key, final Optional<Long> timestamp) {
+        if (key instanceof ContractStorageKey storageKey) {
+            var contractId = storageKey.contractId();
+            var slot = storageKey.slot();
+
+            if (timestamp.isPresent()) {
+                var trimmedSlot = slot.trimLeadingZeros().toArrayUnsafe();
+                return contractStateRepository
+                        .findStorageByBlockTimestamp(contractId, trimmedSlot, timestamp.get())
+                        .map(Bytes::wrap);
+            }
+
+            var storage = prefetch(contractId);
+            if (storage != null) {
+                return Optional.ofNullable(storage.get(slot.trimLeadingZeros()));
+            }
+
+            return contractStateRepository.findStorage(contractId, slot.toArrayUnsafe()).map(Bytes::wrap);
+        }
+        throw new DatabaseAccessIncorrectKeyTypeException("Accessor for class %s failed to fetch by key of type %s"
+                .formatted(Bytes.class.getTypeName(), key.getClass().getTypeName()));
+    }
+
+    /** Storage values are immutable, so they're shared without copying */
+    @Override
+    public boolean isShareable() {
+        return true;
+    }
+
+    /**
+     * Loads all the storage slots of a contract the first time one of its slots is read during a call, as long as it
+     * has no more than the configured prefetch size. Returns null if the contract has too many slots to prefetch, in
+     * which case each slot is looked up individually.
+     */
+    private Map<Bytes, Bytes> prefetch(long contractId) {
+        int prefetchSize = properties.getStoragePrefetchSize();
+        var context = ContractCallContext.get();
+        if (prefetchSize <= 0 || context == null) {
+            return null;
+        }
+
+        var prefetchedStorage = context.getPrefetchedStorage();
+        if (prefetchedStorage.containsKey(contractId)) {
+            return prefetchedStorage.get(contractId);
+        }
+
+        var states = contractStateRepository.findByContractId(contractId, prefetchSize + 1);
+        Map<Bytes, Bytes> storage = null;
+
+        if (states.size() <= prefetchSize) {
+            storage = HashMap.newHashMap(states.size());
+            for (ContractState state : states) {
+                storage.put(Bytes.wrap(state.getSlot()).trimLeadingZeros(), Bytes.wrap(state.getValue()));
+            }
+        }
+
+        prefetchedStorage.put(contractId, storage);
+        return storage;
+    }
+}
@@ -41,6 +41,17 @@ public abstract class DatabaseAccessor<K, V> {
     @NonNull
     public abstract Optional<V> get(@NonNull final K key, final Optional<Long> timestamp);
 
+    /** Whether values read at a historical timestamp can be shared by all calls, each getting its own {@link #copy} */
+    public boolean isShareable() {
+        return false;
+    }
+
+    /** Copy a shared value so that changes a call makes to its copy are not seen by other calls */
+    @NonNull
+    public V copy(@NonNull final V value) {
+        return value;
+    }
+
     @NonNull
     public Class<K> getKeyClass() {
         return klassKey;
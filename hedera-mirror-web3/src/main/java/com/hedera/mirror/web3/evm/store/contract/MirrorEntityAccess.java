@@ -23,7 +23,6 @@ import com.google.protobuf.ByteString;
 import com.hedera.mirror.web3.evm.store.Store;
 import com.hedera.mirror.web3.evm.store.Store.OnMissing;
 import com.hedera.mirror.web3.repository.ContractRepository;
-import com.hedera.mirror.web3.repository.ContractStateRepository;
 import com.hedera.node.app.service.evm.store.contracts.HederaEvmEntityAccess;
 import jakarta.inject.Named;
 import lombok.RequiredArgsConstructor;
@@ -33,7 +32,6 @@ import org.hyperledger.besu.datatypes.Address;
 @RequiredArgsConstructor
 @Named
 public class MirrorEntityAccess implements HederaEvmEntityAccess {
-    private final ContractStateRepository contractStateRepository;
     private final ContractRepository contractRepository;
     private final Store store;
 
@@ -118,12 +116,7 @@ public class MirrorEntityAccess implements HederaEvmEntityAccess {
             return Bytes.EMPTY;
         }
 
-        return store.getHistoricalTimestamp()
-                .map(t -> contractStateRepository.findStorageByBlockTimestamp(
-                        entityId, key.trimLeadingZeros().toArrayUnsafe(), t))
-                .orElseGet(() -> contractStateRepository.findStorage(entityId, key.toArrayUnsafe()))
-                .map(Bytes::wrap)
-                .orElse(Bytes.EMPTY);
+        return store.getStorage(entityId, key);
     }
 
     @Override
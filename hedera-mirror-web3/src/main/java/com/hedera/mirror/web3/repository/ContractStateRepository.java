@@ -20,6 +20,7 @@ import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_C
 import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME;
 
 import com.hedera.mirror.common.domain.contract.ContractState;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.Query;
@@ -31,6 +32,9 @@ public interface ContractStateRepository extends CrudRepository<ContractState, L
     @Cacheable(cacheNames = CACHE_NAME, cacheManager = CACHE_MANAGER_CONTRACT_STATE, unless = "#result == null")
     Optional<byte[]> findStorage(final Long contractId, final byte[] key);
 
+    @Query(value = "select * from contract_state where contract_id = ?1 limit ?2", nativeQuery = true)
+    List<ContractState> findByContractId(long contractId, int limit);
+
     /**
      * This method retrieves the most recent contract state storage value up to given block timestamp.
      *
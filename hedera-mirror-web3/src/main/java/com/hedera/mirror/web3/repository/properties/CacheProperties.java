@@ -40,6 +40,13 @@ public class CacheProperties {
     @NotBlank
     private String entity = ENTITY_CACHE_CONFIG;
 
+    /**
+     *  state at a historical block never changes, so it is only evicted to bound the memory used. Entries are weighed
+     *  by their approximate size in bytes, so the spec must use maximumWeight rather than maximumSize
+     */
+    @NotBlank
+    private String historicalState = "maximumWeight=50000000,recordStats";
+
     @NotBlank
     private String token = ENTITY_CACHE_CONFIG;
 }
@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.web3.service;
+
+import com.hedera.mirror.web3.evm.properties.MirrorNodeEvmProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Named;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Runs contract calls off the event loop on a bounded pool of worker threads. Calls that arrive while all workers are
+ * busy wait in a bounded queue and are rejected with a RejectedExecutionException once it is full. A call that takes
+ * longer than the configured timeout is cancelled, which interrupts its worker thread and halts the EVM at the next
+ * operation. The per call ContractCallContext stays confined to the worker thread running the call.
+ */
+@Named
+public class ContractCallExecutor {
+
+    private static final String METRIC_NAME = "hedera.mirror.web3.call.executor";
+
+    private final ExecutorService executorService;
+    private final MirrorNodeEvmProperties mirrorNodeEvmProperties;
+    private final Scheduler scheduler;
+
+    public ContractCallExecutor(MirrorNodeEvmProperties mirrorNodeEvmProperties, MeterRegistry meterRegistry) {
+        this.mirrorNodeEvmProperties = mirrorNodeEvmProperties;
+        int concurrency = mirrorNodeEvmProperties.getCallConcurrency();
+        int queueSize = mirrorNodeEvmProperties.getCallQueueSize();
+        BlockingQueue<Runnable> queue = queueSize > 0 ? new ArrayBlockingQueue<>(queueSize) : new SynchronousQueue<>();
+        var threadPoolExecutor = new ThreadPoolExecutor(
+                concurrency,
+                concurrency,
+                0L,
+                TimeUnit.MILLISECONDS,
+                queue,
+                new CustomizableThreadFactory("contract-call-"));
+        executorService = ExecutorServiceMetrics.monitor(meterRegistry, threadPoolExecutor, METRIC_NAME);
+        scheduler = Schedulers.fromExecutorService(executorService, METRIC_NAME);
+    }
+
+    public <T> Mono<T> execute(Callable<T> call) {
+        var timeout = mirrorNodeEvmProperties.getCallTimeout();
+        return Mono.fromCallable(call)
+                .subscribeOn(scheduler)
+                .timeout(timeout)
+                .onErrorMap(TimeoutException.class, e -> new QueryTimeoutException("Contract call timed out", e));
+    }
+
+    /**
+     * Submits part of a call that is already running on a worker, such as a gas estimation candidate, to the same pool
+     * so it counts against the concurrency limit. The part is not subject to its own timeout since the running call
+     * already is, and the caller is expected to run the part itself if it can cancel the future before a worker starts
+     * it so it never waits behind other queued calls.
+     *
+     * @param call the part of the call to execute
+     * @return the future result of the part
+     * @throws java.util.concurrent.RejectedExecutionException if the queue is full
+     */
+    public <T> Future<T> submit(Callable<T> call) {
+        return executorService.submit(call);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.dispose();
+        executorService.shutdownNow();
+    }
+}
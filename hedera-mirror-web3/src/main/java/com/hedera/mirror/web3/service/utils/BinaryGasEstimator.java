@@ -18,16 +18,33 @@ package com.hedera.mirror.web3.service.utils;
 
 import com.hedera.mirror.web3.common.ContractCallContext;
 import com.hedera.mirror.web3.evm.properties.MirrorNodeEvmProperties;
+import com.hedera.mirror.web3.evm.store.Store;
+import com.hedera.mirror.web3.service.ContractCallExecutor;
 import com.hedera.node.app.service.evm.contracts.execution.HederaEvmTransactionProcessingResult;
 import jakarta.inject.Named;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.LongFunction;
 import java.util.function.ObjIntConsumer;
+import java.util.stream.LongStream;
 import lombok.RequiredArgsConstructor;
 
 @RequiredArgsConstructor
 @Named
 public class BinaryGasEstimator {
+
+    // The gas stipend given to the callee of a value transfer, which the caller must have available on top of the gas
+    // used
+    private static final long CALL_STIPEND = 2300L;
+
+    private final ContractCallExecutor contractCallExecutor;
     private final MirrorNodeEvmProperties properties;
+    private final Store store;
 
     public long search(
             final ObjIntConsumer<Long> metricUpdater,
@@ -53,9 +70,61 @@ public class BinaryGasEstimator {
                 Math.max(minimumThreshold, properties.getEstimateGasIterationThreshold());
 
         ContractCallContext contractCallContext = ContractCallContext.get();
+
+        // Most calls only need the gas they used plus the stipend and the 1/64 of the gas withheld by each nested
+        // call, so try that single candidate first and only fall back to the search if it is not enough.
+        long candidate = optimisticCandidate(lo);
+        if (lo + 1 < hi && candidate < hi && properties.getMaxGasEstimateRetriesCount() > 0) {
+            contractCallContext.reset();
+            var transactionResult = call.apply(candidate);
+            iterationsMade++;
+
+            if (isSuccessful(transactionResult)) {
+                metricUpdater.accept(transactionResult.getGasUsed(), iterationsMade);
+                return candidate;
+            }
+
+            totalGasUsed += lo;
+            lo = candidate;
+            prevGasLimit = candidate;
+        }
+
+        int parallelism = properties.getEstimateGasParallelism();
         while (lo + 1 < hi && iterationsMade < properties.getMaxGasEstimateRetriesCount()) {
             contractCallContext.reset();
 
+            if (parallelism > 1
+                    && hi - lo > parallelism
+                    && iterationsMade + parallelism <= properties.getMaxGasEstimateRetriesCount()) {
+                // Split the range into parallelism + 1 parts and narrow it down to the part between the highest failing
+                // and the lowest successful candidate
+                long range = hi - lo;
+                long low = lo;
+                var gasLimits = LongStream.rangeClosed(1, parallelism)
+                        .map(i -> low + range / (parallelism + 1) * i)
+                        .toArray();
+                var results = callAll(contractCallContext, call, gasLimits);
+                iterationsMade += gasLimits.length;
+
+                for (int i = 0; i < gasLimits.length; i++) {
+                    var transactionResult = results.get(i);
+                    if (isSuccessful(transactionResult)) {
+                        totalGasUsed += transactionResult.getGasUsed();
+                        hi = gasLimits[i];
+                        break;
+                    }
+
+                    totalGasUsed += prevGasLimit;
+                    lo = gasLimits[i];
+                }
+
+                if (hi - lo < estimateIterationThreshold) {
+                    lo = hi;
+                }
+                prevGasLimit = lo;
+                continue;
+            }
+
             long mid = (hi + lo) / 2;
             HederaEvmTransactionProcessingResult transactionResult = call.apply(mid);
             iterationsMade++;
@@ -77,4 +146,86 @@ public class BinaryGasEstimator {
         metricUpdater.accept(totalGasUsed, iterationsMade);
         return hi;
     }
+
+    /**
+     * The gas used by the call increased by the call stipend and the 1/64 of the gas a nested call keeps in its caller,
+     * but at least 5% more than the gas used as expected of an estimate.
+     */
+    private long optimisticCandidate(long gasUsed) {
+        long withStipend = (gasUsed + CALL_STIPEND) * 64 / 63;
+        long minimum = gasUsed + (gasUsed + 19) / 20;
+        return Math.max(withStipend, minimum);
+    }
+
+    private boolean isSuccessful(HederaEvmTransactionProcessingResult transactionResult) {
+        return transactionResult.isSuccessful() && transactionResult.getGasUsed() > 0;
+    }
+
+    /**
+     * Executes the call with each gas limit concurrently. The first gas limit is executed on the current thread so it
+     * reuses the state already cached by the previous executions, while the others are submitted to the contract call
+     * workers, each with its own ContractCallContext on top of the latest state, so they count against the call
+     * concurrency. Gas limits that no worker started by the time the current thread is done, or that were rejected, are
+     * executed on the current thread instead of waiting for a worker.
+     */
+    private List<HederaEvmTransactionProcessingResult> callAll(
+            ContractCallContext contractCallContext,
+            LongFunction<HederaEvmTransactionProcessingResult> call,
+            long[] gasLimits) {
+        var others = new ArrayList<Future<HederaEvmTransactionProcessingResult>>(gasLimits.length - 1);
+
+        try {
+            for (int i = 1; i < gasLimits.length; i++) {
+                long gas = gasLimits[i];
+                others.add(submit(() -> callIsolated(call, gas)));
+            }
+
+            var results = new ArrayList<HederaEvmTransactionProcessingResult>(gasLimits.length);
+            results.add(call.apply(gasLimits[0]));
+
+            for (int i = 1; i < gasLimits.length; i++) {
+                var future = others.get(i - 1);
+
+                if (future == null || future.cancel(false)) {
+                    contractCallContext.reset();
+                    results.add(call.apply(gasLimits[i]));
+                } else {
+                    results.add(future.get());
+                }
+            }
+
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Gas estimation was cancelled");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            others.forEach(future -> {
+                if (future != null) {
+                    future.cancel(true);
+                }
+            });
+        }
+    }
+
+    private Future<HederaEvmTransactionProcessingResult> submit(Callable<HederaEvmTransactionProcessingResult> call) {
+        try {
+            return contractCallExecutor.submit(call);
+        } catch (RejectedExecutionException e) {
+            return null;
+        }
+    }
+
+    @SuppressWarnings("try")
+    private HederaEvmTransactionProcessingResult callIsolated(
+            LongFunction<HederaEvmTransactionProcessingResult> call, long gas) {
+        try (var context = ContractCallContext.init()) {
+            context.initializeStackFrames(store.getStackedStateFrames());
+            return call.apply(gas);
+        }
+    }
 }
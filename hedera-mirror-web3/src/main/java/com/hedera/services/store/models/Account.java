@@ -23,6 +23,8 @@ import static com.hedera.services.utils.BitPackUtils.setAlreadyUsedAutomaticAsso
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.NO_REMAINING_AUTOMATIC_ASSOCIATIONS;
 
 import com.google.common.base.MoreObjects;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import com.google.protobuf.ByteString;
 import com.hedera.node.app.service.evm.store.models.HederaEvmAccount;
 import com.hedera.services.jproto.JKey;
@@ -33,6 +35,7 @@ import java.util.SortedMap;
 import java.util.SortedSet;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.hyperledger.besu.datatypes.Address;
 
@@ -49,6 +52,8 @@ import org.hyperledger.besu.datatypes.Address;
  * 4. Added constructors and set methods for creating new instances and achieve immutability
  * 6. Added factory method that returns empty instance
  * 7. Added isEmptyAccount() method
+ * 8. Added constructor that loads the balance, owned NFTs, allowances and token association counts lazily
+ * 9. Added copy() method that copies the allowances, so an account can be shared by calls that modify them
  */
 @Getter
 public class Account extends HederaEvmAccount {
@@ -58,11 +63,13 @@ public class Account extends HederaEvmAccount {
 
     private final long expiry;
 
-    private final long balance;
+    @Getter(AccessLevel.NONE)
+    private final Supplier<Long> balance;
 
     private final boolean deleted;
 
-    private final long ownedNfts;
+    @Getter(AccessLevel.NONE)
+    private final Supplier<Long> ownedNfts;
 
     private final long autoRenewSecs;
 
@@ -72,15 +79,20 @@ public class Account extends HederaEvmAccount {
 
     private final int autoAssociationMetadata;
 
-    private final SortedMap<EntityNum, Long> cryptoAllowances;
+    @Getter(AccessLevel.NONE)
+    private final Supplier<SortedMap<EntityNum, Long>> cryptoAllowances;
 
-    private final SortedMap<FcTokenAllowanceId, Long> fungibleTokenAllowances;
+    @Getter(AccessLevel.NONE)
+    private final Supplier<SortedMap<FcTokenAllowanceId, Long>> fungibleTokenAllowances;
 
-    private final SortedSet<FcTokenAllowanceId> approveForAllNfts;
+    @Getter(AccessLevel.NONE)
+    private final Supplier<SortedSet<FcTokenAllowanceId>> approveForAllNfts;
 
-    private final int numAssociations;
+    @Getter(AccessLevel.NONE)
+    private final Supplier<Integer> numAssociations;
 
-    private final int numPositiveBalances;
+    @Getter(AccessLevel.NONE)
+    private final Supplier<Integer> numPositiveBalances;
 
     private final int numTreasuryTitles;
 
@@ -114,23 +126,73 @@ public class Account extends HederaEvmAccount {
             boolean isSmartContract,
             JKey key,
             long createdTimestamp) {
+        this(
+                alias,
+                entityId,
+                id,
+                expiry,
+                Suppliers.ofInstance(balance),
+                deleted,
+                Suppliers.ofInstance(ownedNfts),
+                autoRenewSecs,
+                proxy,
+                autoAssociationMetadata,
+                Suppliers.ofInstance(cryptoAllowances),
+                Suppliers.ofInstance(fungibleTokenAllowances),
+                Suppliers.ofInstance(approveForAllNfts),
+                Suppliers.ofInstance(numAssociations),
+                Suppliers.ofInstance(numPositiveBalances),
+                numTreasuryTitles,
+                ethereumNonce,
+                isSmartContract,
+                key,
+                createdTimestamp);
+    }
+
+    /**
+     * Create an account whose balance, owned NFTs, allowances and token association counts are only loaded the first
+     * time they're read. The suppliers are memoized, so copies of the account made by its set methods share the loaded
+     * values.
+     */
+    @SuppressWarnings("java:S107")
+    public Account(
+            ByteString alias,
+            Long entityId,
+            Id id,
+            long expiry,
+            Supplier<Long> balance,
+            boolean deleted,
+            Supplier<Long> ownedNfts,
+            long autoRenewSecs,
+            Id proxy,
+            int autoAssociationMetadata,
+            Supplier<SortedMap<EntityNum, Long>> cryptoAllowances,
+            Supplier<SortedMap<FcTokenAllowanceId, Long>> fungibleTokenAllowances,
+            Supplier<SortedSet<FcTokenAllowanceId>> approveForAllNfts,
+            Supplier<Integer> numAssociations,
+            Supplier<Integer> numPositiveBalances,
+            int numTreasuryTitles,
+            long ethereumNonce,
+            boolean isSmartContract,
+            JKey key,
+            long createdTimestamp) {
         super(id.asEvmAddress());
         setAlias(alias);
         this.entityId = entityId;
         this.id = id;
         this.expiry = expiry;
-        this.balance = balance;
+        this.balance = Suppliers.memoize(balance);
         this.deleted = deleted;
-        this.ownedNfts = ownedNfts;
+        this.ownedNfts = Suppliers.memoize(ownedNfts);
         this.autoRenewSecs = autoRenewSecs;
         this.proxy = proxy;
         this.accountAddress = id.asEvmAddress();
         this.autoAssociationMetadata = autoAssociationMetadata;
-        this.cryptoAllowances = cryptoAllowances;
-        this.fungibleTokenAllowances = fungibleTokenAllowances;
-        this.approveForAllNfts = approveForAllNfts;
-        this.numAssociations = numAssociations;
-        this.numPositiveBalances = numPositiveBalances;
+        this.cryptoAllowances = Suppliers.memoize(cryptoAllowances);
+        this.fungibleTokenAllowances = Suppliers.memoize(fungibleTokenAllowances);
+        this.approveForAllNfts = Suppliers.memoize(approveForAllNfts);
+        this.numAssociations = Suppliers.memoize(numAssociations);
+        this.numPositiveBalances = Suppliers.memoize(numPositiveBalances);
         this.numTreasuryTitles = numTreasuryTitles;
         this.ethereumNonce = ethereumNonce;
         this.isSmartContract = isSmartContract;
@@ -204,7 +266,35 @@ public class Account extends HederaEvmAccount {
     }
 
     public boolean isEmptyAccount() {
-        return this.equals(getEmptyAccount());
+        return Id.DEFAULT.equals(id) && this.equals(getEmptyAccount());
+    }
+
+    public long getBalance() {
+        return balance.get();
+    }
+
+    public long getOwnedNfts() {
+        return ownedNfts.get();
+    }
+
+    public SortedMap<EntityNum, Long> getCryptoAllowances() {
+        return cryptoAllowances.get();
+    }
+
+    public SortedMap<FcTokenAllowanceId, Long> getFungibleTokenAllowances() {
+        return fungibleTokenAllowances.get();
+    }
+
+    public SortedSet<FcTokenAllowanceId> getApproveForAllNfts() {
+        return approveForAllNfts.get();
+    }
+
+    public int getNumAssociations() {
+        return numAssociations.get();
+    }
+
+    public int getNumPositiveBalances() {
+        return numPositiveBalances.get();
     }
 
     /**
@@ -223,7 +313,7 @@ public class Account extends HederaEvmAccount {
                 oldAccount.expiry,
                 oldAccount.balance,
                 oldAccount.deleted,
-                ownedNfts,
+                Suppliers.ofInstance(ownedNfts),
                 oldAccount.autoRenewSecs,
                 oldAccount.proxy,
                 oldAccount.autoAssociationMetadata,
@@ -262,7 +352,7 @@ public class Account extends HederaEvmAccount {
                 oldAccount.cryptoAllowances,
                 oldAccount.fungibleTokenAllowances,
                 oldAccount.approveForAllNfts,
-                numAssociations,
+                Suppliers.ofInstance(numAssociations),
                 oldAccount.numPositiveBalances,
                 oldAccount.numTreasuryTitles,
                 oldAccount.ethereumNonce,
@@ -295,7 +385,7 @@ public class Account extends HederaEvmAccount {
                 oldAccount.fungibleTokenAllowances,
                 oldAccount.approveForAllNfts,
                 oldAccount.numAssociations,
-                newNumPositiveBalances,
+                Suppliers.ofInstance(newNumPositiveBalances),
                 oldAccount.numTreasuryTitles,
                 oldAccount.ethereumNonce,
                 oldAccount.isSmartContract,
@@ -414,7 +504,7 @@ public class Account extends HederaEvmAccount {
                 oldAccount.entityId,
                 oldAccount.id,
                 oldAccount.expiry,
-                newBalance,
+                Suppliers.ofInstance(newBalance),
                 oldAccount.deleted,
                 oldAccount.ownedNfts,
                 oldAccount.autoRenewSecs,
@@ -453,7 +543,7 @@ public class Account extends HederaEvmAccount {
                 oldAccount.autoRenewSecs,
                 oldAccount.proxy,
                 oldAccount.autoAssociationMetadata,
-                cryptoAllowances,
+                Suppliers.ofInstance(cryptoAllowances),
                 oldAccount.fungibleTokenAllowances,
                 oldAccount.approveForAllNfts,
                 oldAccount.numAssociations,
@@ -487,7 +577,7 @@ public class Account extends HederaEvmAccount {
                 oldAccount.proxy,
                 oldAccount.autoAssociationMetadata,
                 oldAccount.cryptoAllowances,
-                fungibleTokenAllowances,
+                Suppliers.ofInstance(fungibleTokenAllowances),
                 oldAccount.approveForAllNfts,
                 oldAccount.numAssociations,
                 oldAccount.numPositiveBalances,
@@ -521,7 +611,7 @@ public class Account extends HederaEvmAccount {
                 oldAccount.autoAssociationMetadata,
                 oldAccount.cryptoAllowances,
                 oldAccount.fungibleTokenAllowances,
-                newApproveForAllNfts,
+                Suppliers.ofInstance(newApproveForAllNfts),
                 oldAccount.numAssociations,
                 oldAccount.numPositiveBalances,
                 oldAccount.numTreasuryTitles,
@@ -595,6 +685,45 @@ public class Account extends HederaEvmAccount {
                 oldAccount.createdTimestamp);
     }
 
+    /**
+     * Creates new instance of {@link Account} whose allowances are copied from the old account the first time they're
+     * read, so changes made to the allowances of one instance are not seen by the other.
+     *
+     * @param oldAccount
+     * @return the new instance of {@link Account} with copied allowances
+     */
+    private Account createNewAccountWithCopiedAllowances(Account oldAccount) {
+        return new Account(
+                oldAccount.alias,
+                oldAccount.entityId,
+                oldAccount.id,
+                oldAccount.expiry,
+                oldAccount.balance,
+                oldAccount.deleted,
+                oldAccount.ownedNfts,
+                oldAccount.autoRenewSecs,
+                oldAccount.proxy,
+                oldAccount.autoAssociationMetadata,
+                () -> copyOf(oldAccount.getCryptoAllowances()),
+                () -> copyOf(oldAccount.getFungibleTokenAllowances()),
+                () -> copyOf(oldAccount.getApproveForAllNfts()),
+                oldAccount.numAssociations,
+                oldAccount.numPositiveBalances,
+                oldAccount.numTreasuryTitles,
+                oldAccount.ethereumNonce,
+                oldAccount.isSmartContract,
+                oldAccount.key,
+                oldAccount.createdTimestamp);
+    }
+
+    private static <K, V> SortedMap<K, V> copyOf(SortedMap<K, V> map) {
+        return map != null ? new TreeMap<>(map) : null;
+    }
+
+    private static <E> SortedSet<E> copyOf(SortedSet<E> set) {
+        return set != null ? new TreeSet<>(set) : null;
+    }
+
     public int getMaxAutomaticAssociations() {
         return getMaxAutomaticAssociationsFrom(autoAssociationMetadata);
     }
@@ -662,6 +791,10 @@ public class Account extends HederaEvmAccount {
         return createNewAccountWithNewPositiveBalances(this, newNumPositiveBalances);
     }
 
+    public Account copy() {
+        return createNewAccountWithCopiedAllowances(this);
+    }
+
     public Account decrementUsedAutomaticAssociations() {
         var count = getAlreadyUsedAutomaticAssociations();
         return setAlreadyUsedAutomaticAssociations(--count);
@@ -673,14 +806,11 @@ public class Account extends HederaEvmAccount {
         if (o == null || getClass() != o.getClass()) return false;
         if (!super.equals(o)) return false;
         Account account = (Account) o;
+        // Compare the lazily loaded fields last, so they're only loaded if all the other fields are equal
         return expiry == account.expiry
-                && balance == account.balance
                 && deleted == account.deleted
-                && ownedNfts == account.ownedNfts
                 && autoRenewSecs == account.autoRenewSecs
                 && autoAssociationMetadata == account.autoAssociationMetadata
-                && numAssociations == account.numAssociations
-                && numPositiveBalances == account.numPositiveBalances
                 && numTreasuryTitles == account.numTreasuryTitles
                 && ethereumNonce == account.ethereumNonce
                 && isSmartContract == account.isSmartContract
@@ -689,10 +819,14 @@ public class Account extends HederaEvmAccount {
                 && Objects.equals(id, account.id)
                 && Objects.equals(proxy, account.proxy)
                 && Objects.equals(accountAddress, account.accountAddress)
-                && Objects.equals(cryptoAllowances, account.cryptoAllowances)
-                && Objects.equals(fungibleTokenAllowances, account.fungibleTokenAllowances)
-                && Objects.equals(approveForAllNfts, account.approveForAllNfts)
-                && Objects.equals(key, account.key);
+                && Objects.equals(key, account.key)
+                && getBalance() == account.getBalance()
+                && getOwnedNfts() == account.getOwnedNfts()
+                && getNumAssociations() == account.getNumAssociations()
+                && getNumPositiveBalances() == account.getNumPositiveBalances()
+                && Objects.equals(getCryptoAllowances(), account.getCryptoAllowances())
+                && Objects.equals(getFungibleTokenAllowances(), account.getFungibleTokenAllowances())
+                && Objects.equals(getApproveForAllNfts(), account.getApproveForAllNfts());
     }
 
     @Override
@@ -702,18 +836,18 @@ public class Account extends HederaEvmAccount {
                 entityId,
                 id,
                 expiry,
-                balance,
+                getBalance(),
                 deleted,
-                ownedNfts,
+                getOwnedNfts(),
                 autoRenewSecs,
                 proxy,
                 accountAddress,
                 autoAssociationMetadata,
-                cryptoAllowances,
-                fungibleTokenAllowances,
-                approveForAllNfts,
-                numAssociations,
-                numPositiveBalances,
+                getCryptoAllowances(),
+                getFungibleTokenAllowances(),
+                getApproveForAllNfts(),
+                getNumAssociations(),
+                getNumPositiveBalances(),
                 numTreasuryTitles,
                 ethereumNonce,
                 isSmartContract,
@@ -726,17 +860,17 @@ public class Account extends HederaEvmAccount {
         return MoreObjects.toStringHelper(Account.class)
                 .add("id", id)
                 .add("expiry", expiry)
-                .add("balance", balance)
+                .add("balance", getBalance())
                 .add("deleted", deleted)
-                .add("ownedNfts", ownedNfts)
+                .add("ownedNfts", getOwnedNfts())
                 .add("alreadyUsedAutoAssociations", getAlreadyUsedAutomaticAssociations())
                 .add("maxAutoAssociations", getMaxAutomaticAssociations())
                 .add("alias", getAlias().toStringUtf8())
-                .add("cryptoAllowances", cryptoAllowances)
-                .add("fungibleTokenAllowances", fungibleTokenAllowances)
-                .add("approveForAllNfts", approveForAllNfts)
-                .add("numAssociations", numAssociations)
-                .add("numPositiveBalances", numPositiveBalances)
+                .add("cryptoAllowances", getCryptoAllowances())
+                .add("fungibleTokenAllowances", getFungibleTokenAllowances())
+                .add("approveForAllNfts", getApproveForAllNfts())
+                .add("numAssociations", getNumAssociations())
+                .add("numPositiveBalances", getNumPositiveBalances())
                 .toString();
     }
 
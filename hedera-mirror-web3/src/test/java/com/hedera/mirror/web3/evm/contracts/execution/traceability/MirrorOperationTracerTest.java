@@ -17,12 +17,15 @@
 package com.hedera.mirror.web3.evm.contracts.execution.traceability;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 
 import com.hedera.mirror.web3.evm.account.MirrorEvmContractAliases;
 import com.hedera.mirror.web3.evm.properties.TraceProperties;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
 import org.apache.tuweni.bytes.Bytes;
 import org.hyperledger.besu.datatypes.Address;
 import org.hyperledger.besu.evm.frame.MessageFrame;
@@ -70,6 +73,24 @@ class MirrorOperationTracerTest {
         mirrorOperationTracer = new MirrorOperationTracer(traceProperties, mirrorEvmContractAliases);
     }
 
+    @Test
+    void tracePreExecution() {
+        assertThatCode(() -> mirrorOperationTracer.tracePreExecution(messageFrame))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    void tracePreExecutionInterrupted() {
+        Thread.currentThread().interrupt();
+
+        try {
+            assertThatThrownBy(() -> mirrorOperationTracer.tracePreExecution(messageFrame))
+                    .isInstanceOf(CancellationException.class);
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
     @Test
     void traceDisabled(CapturedOutput output) {
         traceProperties.setEnabled(false);
@@ -20,11 +20,20 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.protobuf.ByteString;
 import com.hedera.mirror.web3.evm.store.accessor.DatabaseAccessor;
+import com.hedera.services.store.models.Account;
+import com.hedera.services.store.models.Id;
+import com.hedera.services.utils.EntityNum;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.util.List;
 import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import lombok.NonNull;
+import org.apache.tuweni.bytes.Bytes;
 import org.junit.jupiter.api.Test;
 
 class DatabaseBackedStateFrameTest {
@@ -51,6 +60,99 @@ class DatabaseBackedStateFrameTest {
         assertThat(sut.getValue(Long.class, aCache, aKey)).isPresent().contains(expectedValue);
     }
 
+    @Test
+    void getValueCachesHistoricalState() {
+        final Integer aKey = 5;
+        final UpdatableReferenceCache<Integer> aCache = new UpdatableReferenceCache<>();
+        final var historicalState = Caffeine.newBuilder().<Object, Optional<Object>>build();
+        final var sut = new DatabaseBackedStateFrame<>(someAccessors, thoseValueClasses, timestamp, historicalState);
+        dbAccessorForLong.shareable = true;
+        final var otherBlock = new DatabaseBackedStateFrame<>(
+                someAccessors, thoseValueClasses, Optional.of(timestamp.get() + 1), historicalState);
+
+        final Long expectedValue = 123L;
+        dbAccessorForLong.setCannedKV(aKey, expectedValue);
+        assertThat(sut.getValue(Long.class, aCache, aKey)).contains(expectedValue);
+
+        dbAccessorForLong.setCannedKV(aKey, null);
+        assertThat(sut.getValue(Long.class, aCache, aKey)).contains(expectedValue);
+        assertThat(otherBlock.getValue(Long.class, aCache, aKey)).isEmpty();
+        assertThat(historicalState.estimatedSize()).isEqualTo(2);
+    }
+
+    @Test
+    void getValueDoesNotCacheLatestState() {
+        final Integer aKey = 5;
+        final UpdatableReferenceCache<Integer> aCache = new UpdatableReferenceCache<>();
+        final var historicalState = Caffeine.newBuilder().<Object, Optional<Object>>build();
+        final var sut =
+                new DatabaseBackedStateFrame<>(someAccessors, thoseValueClasses, Optional.empty(), historicalState);
+        dbAccessorForLong.shareable = true;
+
+        final Long expectedValue = 123L;
+        dbAccessorForLong.setCannedKV(aKey, expectedValue);
+        assertThat(sut.getValue(Long.class, aCache, aKey)).contains(expectedValue);
+
+        dbAccessorForLong.setCannedKV(aKey, null);
+        assertThat(sut.getValue(Long.class, aCache, aKey)).isEmpty();
+        assertThat(historicalState.estimatedSize()).isZero();
+    }
+
+    @Test
+    void getValueDoesNotCacheUnshareableState() {
+        final Integer aKey = 5;
+        final UpdatableReferenceCache<Integer> aCache = new UpdatableReferenceCache<>();
+        final var historicalState = Caffeine.newBuilder().<Object, Optional<Object>>build();
+        final var sut = new DatabaseBackedStateFrame<>(someAccessors, thoseValueClasses, timestamp, historicalState);
+
+        final Long expectedValue = 123L;
+        dbAccessorForLong.setCannedKV(aKey, expectedValue);
+        assertThat(sut.getValue(Long.class, aCache, aKey)).contains(expectedValue);
+
+        dbAccessorForLong.setCannedKV(aKey, null);
+        assertThat(sut.getValue(Long.class, aCache, aKey)).isEmpty();
+        assertThat(historicalState.estimatedSize()).isZero();
+    }
+
+    @Test
+    void getValueCopiesHistoricalStateForEachCall() {
+        final Integer aKey = 5;
+        final var spender = EntityNum.fromLong(1001L);
+        final var dbAccessorForAccount = new DatabaseAccessorStub<Integer, Account>() {
+            @Override
+            public @NonNull Account copy(@NonNull final Account account) {
+                return account.copy();
+            }
+        };
+        dbAccessorForAccount.shareable = true;
+        dbAccessorForAccount.setCannedKV(aKey, accountWithCryptoAllowances(new TreeMap<>()));
+        final List<DatabaseAccessor<Integer, ?>> accessors = List.of(dbAccessorForAccount);
+        final var valueClasses = new Class<?>[] {Account.class};
+        final var historicalState = Caffeine.newBuilder().<Object, Optional<Object>>build();
+
+        // An approve in the first call changes the allowances of the account it read
+        final var approveCall = new DatabaseBackedStateFrame<>(accessors, valueClasses, timestamp, historicalState);
+        final var approvingAccount = (Account) approveCall
+                .getValue(Account.class, new UpdatableReferenceCache<>(), aKey)
+                .orElseThrow();
+        approvingAccount.getCryptoAllowances().put(spender, 100L);
+
+        // A read in the second call at the same block still sees the allowances as of that block
+        final var readCall = new DatabaseBackedStateFrame<>(accessors, valueClasses, timestamp, historicalState);
+        final var readAccount = (Account) readCall
+                .getValue(Account.class, new UpdatableReferenceCache<>(), aKey)
+                .orElseThrow();
+        assertThat(readAccount.getCryptoAllowances()).isEmpty();
+        assertThat(historicalState.estimatedSize()).isOne();
+    }
+
+    @Test
+    void weigh() {
+        assertThat(DatabaseBackedStateFrame.weigh(5, Optional.empty())).isEqualTo(128);
+        assertThat(DatabaseBackedStateFrame.weigh(5, Optional.of(Bytes.of(1, 2, 3)))).isEqualTo(131);
+        assertThat(DatabaseBackedStateFrame.weigh(5, Optional.of(123L))).isEqualTo(1152);
+    }
+
     @Test
     void getValueWithBadClassFails() {
         final Integer aKey = 5;
@@ -99,15 +201,45 @@ class DatabaseBackedStateFrameTest {
         assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(sut::commit);
     }
 
+    private static Account accountWithCryptoAllowances(final SortedMap<EntityNum, Long> cryptoAllowances) {
+        return new Account(
+                ByteString.EMPTY,
+                1000L,
+                new Id(0, 0, 1000L),
+                0L,
+                0L,
+                false,
+                0L,
+                0L,
+                Id.DEFAULT,
+                0,
+                cryptoAllowances,
+                new TreeMap<>(),
+                new TreeSet<>(),
+                0,
+                0,
+                0,
+                0L,
+                false,
+                null,
+                0L);
+    }
+
     static class DatabaseAccessorStub<K, V> extends DatabaseAccessor<K, V> {
         public K cannedKey;
         public Optional<V> cannedValue = Optional.empty();
+        public boolean shareable;
 
         @Override
         public @NonNull Optional<V> get(@NonNull final K key, final Optional<Long> timestamp) {
             return key == cannedKey ? cannedValue : Optional.empty();
         }
 
+        @Override
+        public boolean isShareable() {
+            return shareable;
+        }
+
         public void setCannedKV(@NonNull final K key, @Nullable final V value) {
             cannedKey = key;
             cannedValue = Optional.ofNullable(value);
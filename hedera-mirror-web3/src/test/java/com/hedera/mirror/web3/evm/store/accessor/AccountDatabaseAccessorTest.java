@@ -20,6 +20,9 @@ import static com.hedera.mirror.web3.evm.utils.EvmTokenUtils.entityIdNumFromEvmA
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.hedera.mirror.common.domain.entity.AbstractEntity;
@@ -406,4 +409,31 @@ class AccountDatabaseAccessorTest {
                 .returns(POSITIVE_BALANCES + NEGATIVE_BALANCES, Account::getNumAssociations)
                 .returns(POSITIVE_BALANCES, Account::getNumPositiveBalances));
     }
+
+    @Test
+    void expensiveFieldsAreLoadedLazilyOnce() {
+        when(entityDatabaseAccessor.get(ADDRESS, timestamp)).thenReturn(Optional.ofNullable(entity));
+        when(tokenAccountRepository.countByAccountIdAndTimestampAndAssociatedGroupedByBalanceIsPositive(
+                        entity.getId(), timestamp.get()))
+                .thenReturn(associationsCount);
+
+        final var account = accountAccessor.get(ADDRESS, timestamp).orElseThrow();
+        assertThat(account.getEntityId()).isEqualTo(entity.getId());
+        verifyNoInteractions(
+                accountBalanceRepository,
+                cryptoAllowanceRepository,
+                nftAllowanceRepository,
+                nftRepository,
+                tokenAccountRepository,
+                tokenAllowanceRepository);
+
+        // Copies share the loaded values
+        final var copy = account.setExpiry(EXPIRATION_TIMESTAMP + 1);
+        assertThat(account.getNumAssociations()).isEqualTo(POSITIVE_BALANCES + NEGATIVE_BALANCES);
+        assertThat(copy.getNumAssociations()).isEqualTo(POSITIVE_BALANCES + NEGATIVE_BALANCES);
+        assertThat(copy.getNumPositiveBalances()).isEqualTo(POSITIVE_BALANCES);
+        verify(tokenAccountRepository, times(1))
+                .countByAccountIdAndTimestampAndAssociatedGroupedByBalanceIsPositive(entity.getId(), timestamp.get());
+        verifyNoInteractions(accountBalanceRepository, nftRepository);
+    }
 }
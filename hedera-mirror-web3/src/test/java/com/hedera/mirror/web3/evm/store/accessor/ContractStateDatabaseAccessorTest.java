@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.web3.evm.store.accessor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.mirror.web3.Web3IntegrationTest;
+import com.hedera.mirror.web3.common.ContractCallContext;
+import com.hedera.mirror.web3.evm.properties.MirrorNodeEvmProperties;
+import com.hedera.mirror.web3.evm.store.accessor.model.ContractStorageKey;
+import com.hedera.mirror.web3.repository.ContractStateRepository;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+@RequiredArgsConstructor
+class ContractStateDatabaseAccessorTest extends Web3IntegrationTest {
+
+    private final ContractStateDatabaseAccessor contractStateDatabaseAccessor;
+    private final ContractStateRepository contractStateRepository;
+    private final MirrorNodeEvmProperties properties;
+
+    @AfterEach
+    void cleanup() {
+        properties.setStoragePrefetchSize(0);
+    }
+
+    @Test
+    void get() {
+        final var contractState = domainBuilder.contractState().persist();
+        final var key = new ContractStorageKey(contractState.getContractId(), Bytes.wrap(contractState.getSlot()));
+
+        assertThat(contractStateDatabaseAccessor.get(key, Optional.empty()))
+                .get()
+                .isEqualTo(Bytes.wrap(contractState.getValue()));
+    }
+
+    @Test
+    void getMissing() {
+        final var key = new ContractStorageKey(domainBuilder.id(), Bytes32.ZERO);
+        assertThat(contractStateDatabaseAccessor.get(key, Optional.empty())).isEmpty();
+    }
+
+    @Test
+    void getHistorical() {
+        final var contractStateChange = domainBuilder
+                .contractStateChange()
+                .customize(c -> c.slot(new byte[] {1, 2}))
+                .persist();
+        final var key = new ContractStorageKey(contractStateChange.getContractId(), Bytes32.leftPad(Bytes.of(1, 2)));
+        final var timestamp = contractStateChange.getConsensusTimestamp();
+
+        assertThat(contractStateDatabaseAccessor.get(key, Optional.of(timestamp)))
+                .get()
+                .isEqualTo(Bytes.wrap(contractStateChange.getValueWritten()));
+        assertThat(contractStateDatabaseAccessor.get(key, Optional.of(timestamp - 1))).isEmpty();
+    }
+
+    @Test
+    void prefetch() {
+        properties.setStoragePrefetchSize(2);
+        final var contractState1 = domainBuilder.contractState().persist();
+        final var contractState2 = domainBuilder
+                .contractState()
+                .customize(c -> c.contractId(contractState1.getContractId()))
+                .persist();
+        final var contractId = contractState1.getContractId();
+        final var key1 = new ContractStorageKey(contractId, Bytes.wrap(contractState1.getSlot()));
+        final var key2 = new ContractStorageKey(contractId, Bytes.wrap(contractState2.getSlot()));
+        final var missingKey = new ContractStorageKey(contractId, Bytes32.ZERO);
+
+        try (final var context = ContractCallContext.init()) {
+            assertThat(contractStateDatabaseAccessor.get(key1, Optional.empty()))
+                    .get()
+                    .isEqualTo(Bytes.wrap(contractState1.getValue()));
+            assertThat(context.getPrefetchedStorage()).containsKey(contractId);
+
+            // Served from the prefetched storage without querying the database
+            contractStateRepository.deleteAll();
+            assertThat(contractStateDatabaseAccessor.get(key2, Optional.empty()))
+                    .get()
+                    .isEqualTo(Bytes.wrap(contractState2.getValue()));
+            assertThat(contractStateDatabaseAccessor.get(missingKey, Optional.empty())).isEmpty();
+
+            // Kept when the context is reset between gas estimate iterations
+            context.reset();
+            assertThat(contractStateDatabaseAccessor.get(key1, Optional.empty()))
+                    .get()
+                    .isEqualTo(Bytes.wrap(contractState1.getValue()));
+        }
+    }
+
+    @Test
+    void prefetchTooManySlots() {
+        properties.setStoragePrefetchSize(1);
+        final var contractState1 = domainBuilder.contractState().persist();
+        final var contractState2 = domainBuilder
+                .contractState()
+                .customize(c -> c.contractId(contractState1.getContractId()))
+                .persist();
+        final var contractId = contractState1.getContractId();
+        final var key2 = new ContractStorageKey(contractId, Bytes.wrap(contractState2.getSlot()));
+
+        try (final var context = ContractCallContext.init()) {
+            assertThat(contractStateDatabaseAccessor.get(key2, Optional.empty()))
+                    .get()
+                    .isEqualTo(Bytes.wrap(contractState2.getValue()));
+            assertThat(context.getPrefetchedStorage()).containsEntry(contractId, null);
+        }
+    }
+}
@@ -28,7 +28,6 @@ import com.hedera.mirror.common.util.DomainUtils;
 import com.hedera.mirror.web3.evm.store.Store;
 import com.hedera.mirror.web3.evm.store.Store.OnMissing;
 import com.hedera.mirror.web3.repository.ContractRepository;
-import com.hedera.mirror.web3.repository.ContractStateRepository;
 import com.hedera.services.store.models.Account;
 import com.hedera.services.store.models.Token;
 import java.time.Instant;
@@ -49,7 +48,6 @@ class MirrorEntityAccessTest {
     private static final Bytes BYTES = Bytes.fromHexString(HEX);
     private static final byte[] DATA = BYTES.toArrayUnsafe();
     private static final Address ADDRESS = Address.fromHexString(HEX);
-    private static final Optional<Long> timestamp = Optional.of(1234L);
     private static final EntityId ENTITY = DomainUtils.fromEvmAddress(ADDRESS.toArrayUnsafe());
     private static final Long ENTITY_ID =
             EntityId.of(ENTITY.getShard(), ENTITY.getRealm(), ENTITY.getNum()).getId();
@@ -59,9 +57,6 @@ class MirrorEntityAccessTest {
     @Mock
     private ContractRepository contractRepository;
 
-    @Mock
-    private ContractStateRepository contractStateRepository;
-
     @Mock
     private Account account;
 
@@ -75,7 +70,7 @@ class MirrorEntityAccessTest {
 
     @BeforeEach
     void setUp() {
-        mirrorEntityAccess = new MirrorEntityAccess(contractStateRepository, contractRepository, store);
+        mirrorEntityAccess = new MirrorEntityAccess(contractRepository, store);
     }
 
     @Test
@@ -225,19 +220,7 @@ class MirrorEntityAccessTest {
 
     @Test
     void getStorage() {
-        when(store.getHistoricalTimestamp()).thenReturn(Optional.empty());
-        when(contractStateRepository.findStorage(ENTITY_ID, BYTES.toArrayUnsafe()))
-                .thenReturn(Optional.of(DATA));
-        final var result = UInt256.fromBytes(mirrorEntityAccess.getStorage(ADDRESS, BYTES));
-        assertThat(result).isEqualTo(UInt256.fromHexString(HEX));
-    }
-
-    @Test
-    void getStorageHistorical() {
-        when(store.getHistoricalTimestamp()).thenReturn(timestamp);
-        when(contractStateRepository.findStorageByBlockTimestamp(
-                        ENTITY_ID, new byte[] {(byte) 0x04, (byte) 0xE4}, timestamp.get()))
-                .thenReturn(Optional.of(DATA));
+        when(store.getStorage(ENTITY_ID, BYTES)).thenReturn(Bytes.wrap(DATA));
         final var result = UInt256.fromBytes(mirrorEntityAccess.getStorage(ADDRESS, BYTES));
         assertThat(result).isEqualTo(UInt256.fromHexString(HEX));
     }
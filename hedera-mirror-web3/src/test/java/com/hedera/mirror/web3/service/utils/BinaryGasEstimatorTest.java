@@ -20,9 +20,14 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 
 import com.hedera.mirror.web3.Web3IntegrationTest;
 import com.hedera.mirror.web3.evm.properties.MirrorNodeEvmProperties;
+import com.hedera.mirror.web3.evm.store.Store;
+import com.hedera.mirror.web3.service.ContractCallExecutor;
 import com.hedera.node.app.service.evm.contracts.execution.HederaEvmTransactionProcessingResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
 import lombok.RequiredArgsConstructor;
 import org.assertj.core.data.Percentage;
 import org.hyperledger.besu.datatypes.Address;
@@ -35,6 +40,7 @@ import org.junit.jupiter.params.provider.CsvSource;
 class BinaryGasEstimatorTest extends Web3IntegrationTest {
     private final BinaryGasEstimator binaryGasEstimator;
     private final MirrorNodeEvmProperties properties;
+    private final Store store;
     private final AtomicInteger iterations = new AtomicInteger(0);
 
     /**
@@ -110,6 +116,72 @@ class BinaryGasEstimatorTest extends Web3IntegrationTest {
                 .isLessThanOrEqualTo(properties.getMaxGasEstimateRetriesCount());
     }
 
+    @Test
+    void searchSucceedsWithOptimisticCandidate() {
+        final var low = 100_000L;
+        final var result = binaryGasEstimator.search(
+                (a, b) -> iterations.addAndGet(b), gas -> createTxnResult(low, true), low, 15_000_000L);
+
+        assertThat(result).isBetween(low + low / 20, low + low / 5);
+        assertThat(iterations.get()).isOne();
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1, 20", "4, 20"})
+    void searchWithParallelism(final int parallelism, final int iterationLimit) {
+        final var low = 100_000L;
+        final var required = 1_000_000L;
+        properties.setEstimateGasParallelism(parallelism);
+
+        try {
+            final var result = binaryGasEstimator.search(
+                    (a, b) -> iterations.addAndGet(b),
+                    gas -> createTxnResult(low, gas >= required),
+                    low,
+                    15_000_000L);
+
+            assertThat(result).isBetween(required, required + required / 10);
+            assertThat(iterations.get()).as("iteration limit").isLessThanOrEqualTo(iterationLimit);
+        } finally {
+            properties.setEstimateGasParallelism(1);
+        }
+    }
+
+    @Test
+    void searchWithParallelismWithinCallConcurrency() {
+        final var low = 100_000L;
+        final var required = 1_000_000L;
+        final var executorProperties = new MirrorNodeEvmProperties();
+        executorProperties.setCallConcurrency(2);
+        final var contractCallExecutor = new ContractCallExecutor(executorProperties, new SimpleMeterRegistry());
+        final var estimator = new BinaryGasEstimator(contractCallExecutor, properties, store);
+        final var caller = Thread.currentThread();
+        final var active = new AtomicInteger();
+        final var maxActive = new AtomicInteger();
+        properties.setEstimateGasParallelism(8);
+
+        try {
+            final var result = estimator.search(
+                    (a, b) -> iterations.addAndGet(b),
+                    gas -> {
+                        if (Thread.currentThread() != caller) {
+                            maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+                            LockSupport.parkNanos(Duration.ofMillis(10L).toNanos());
+                            active.decrementAndGet();
+                        }
+                        return createTxnResult(low, gas >= required);
+                    },
+                    low,
+                    15_000_000L);
+
+            assertThat(result).isBetween(required, required + required / 10);
+            assertThat(maxActive.get()).as("concurrent workers").isLessThanOrEqualTo(2);
+        } finally {
+            properties.setEstimateGasParallelism(1);
+            contractCallExecutor.shutdown();
+        }
+    }
+
     private HederaEvmTransactionProcessingResult createTxnResult(final long gasUsed, final boolean isSuccessful) {
         if (!isSuccessful) {
             return HederaEvmTransactionProcessingResult.failed(gasUsed, 0, 0, Optional.empty(), Optional.empty());
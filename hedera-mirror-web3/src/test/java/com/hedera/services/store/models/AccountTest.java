@@ -20,6 +20,10 @@ import static com.swirlds.common.utility.CommonUtils.unhex;
 import static org.junit.jupiter.api.Assertions.*;
 
 import com.google.protobuf.ByteString;
+import com.hedera.services.utils.EntityNum;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import org.apache.tuweni.bytes.Bytes;
 import org.bouncycastle.util.encoders.Hex;
 import org.hyperledger.besu.datatypes.Address;
@@ -116,6 +120,23 @@ class AccountTest {
         assertEquals(untranslatedAddress, subject.canonicalAddress());
     }
 
+    @Test
+    void copyHasItsOwnAllowances() {
+        final var spender = EntityNum.fromLong(1001L);
+        final var account = subject.setCryptoAllowance(new TreeMap<>(Map.of(spender, 10L)))
+                .setFungibleTokenAllowances(new TreeMap<>())
+                .setApproveForAllNfts(new TreeSet<>());
+
+        final var copy = account.copy();
+        assertEquals(account, copy);
+        assertEquals(subject, subject.copy());
+
+        copy.getCryptoAllowances().put(spender, 20L);
+        copy.getApproveForAllNfts().add(new FcTokenAllowanceId(EntityNum.fromLong(1002L), spender));
+        assertEquals(10L, account.getCryptoAllowances().get(spender));
+        assertTrue(account.getApproveForAllNfts().isEmpty());
+    }
+
     @Test
     void toStringAsExpected() {
         final var desired = "Account{id=0.0.12345, expiry=0, balance=0, deleted=false, ownedNfts=5,"